@@ -0,0 +1,99 @@
+package com.tuteurldom.benchmarks;
+
+import com.tuteurldom.dto.AppointmentDto;
+import com.tuteurldom.dto.ParentDto;
+import com.tuteurldom.dto.RequestDto;
+import com.tuteurldom.dto.TeacherDto;
+import com.tuteurldom.dto.TeacherSummaryDto;
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Parent;
+import com.tuteurldom.entity.Request;
+import com.tuteurldom.entity.Teacher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Construction des DTOs de liste à partir de graphes d'entités déjà chargés :
+// coût du mapping seul, sans base ni sérialisation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"100", "1000"})
+    int size;
+
+    List<Teacher> teachers;
+    List<Parent> parents;
+    List<Request> requests;
+    List<Appointment> appointments;
+
+    @Setup
+    public void setUp() {
+        teachers = Fixtures.teachers(size);
+        parents = Fixtures.parents(size);
+        requests = Fixtures.requests(size);
+        appointments = Fixtures.appointments(size);
+    }
+
+    // GET /api/teachers : vue liste, nombre d'avis tiré de rating_count
+    @Benchmark
+    public List<TeacherSummaryDto> teacherSummaries() {
+        List<TeacherSummaryDto> dtos = new ArrayList<>(teachers.size());
+        for (Teacher teacher : teachers) {
+            dtos.add(new TeacherSummaryDto(teacher, teacher.ratingCount));
+        }
+        return dtos;
+    }
+
+    // Profil complet avec ses avis (Fixtures.REVIEWS_PER_TEACHER par enseignant)
+    @Benchmark
+    public List<TeacherDto> teacherDetails() {
+        List<TeacherDto> dtos = new ArrayList<>(teachers.size());
+        for (Teacher teacher : teachers) {
+            dtos.add(new TeacherDto(teacher));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<ParentDto> parents() {
+        List<ParentDto> dtos = new ArrayList<>(parents.size());
+        for (Parent parent : parents) {
+            dtos.add(new ParentDto(parent));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<RequestDto> requests() {
+        List<RequestDto> dtos = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            dtos.add(new RequestDto(request));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<AppointmentDto> appointments() {
+        List<AppointmentDto> dtos = new ArrayList<>(appointments.size());
+        for (Appointment appointment : appointments) {
+            dtos.add(new AppointmentDto(appointment));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,132 @@
+package com.tuteurldom.benchmarks;
+
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Child;
+import com.tuteurldom.entity.Course;
+import com.tuteurldom.entity.Parent;
+import com.tuteurldom.entity.Request;
+import com.tuteurldom.entity.Review;
+import com.tuteurldom.entity.Teacher;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Graphes d'entités construits en mémoire (sans base ni Hibernate), déterministes
+// d'une exécution à l'autre, aux volumes typiques des réponses de liste
+final class Fixtures {
+
+    static final int REVIEWS_PER_TEACHER = 10;
+    static final int CHILDREN_PER_PARENT = 2;
+
+    private static final Teacher.TeachingLocation[] LOCATIONS = Teacher.TeachingLocation.values();
+    private static final String[] SUBJECTS = {
+            "Mathématiques - Niveau Collège", "Français - Niveau Lycée", "Anglais - Tous niveaux",
+            "Sciences Physiques - Collège/Lycée", "Informatique - Programmation"
+    };
+    private static final String BIO = "Professeure de mathématiques avec 10 ans d'expérience. "
+            + "Spécialisée dans l'aide aux élèves en difficulté et la préparation du brevet et du baccalauréat.";
+
+    private Fixtures() {
+    }
+
+    static List<Teacher> teachers(int count) {
+        Random random = new Random(42);
+        List<Parent> reviewers = parents(REVIEWS_PER_TEACHER);
+        List<Teacher> teachers = new ArrayList<>(count);
+        long reviewId = 1;
+        for (int i = 0; i < count; i++) {
+            Teacher teacher = new Teacher("enseignant" + i + "@email.com", null, "Prénom" + i, "Nom" + i,
+                    SUBJECTS[i % SUBJECTS.length], BigDecimal.valueOf(12000 + random.nextInt(12) * 1000L, 0),
+                    locations(random), "Algèbre, Géométrie, Trigonométrie", BIO);
+            teacher.id = 1000L + i;
+            teacher.status = Teacher.TeacherStatus.ACTIVE;
+            if (i % 3 == 0) {
+                teacher.profilePictureUrl = "/uploads/profile-pictures/" + Long.toHexString(random.nextLong()) + ".jpg";
+            }
+            for (Parent reviewer : reviewers) {
+                Review review = new Review(reviewer, teacher, 1 + random.nextInt(5), "Très patient et pédagogue.");
+                review.id = reviewId++;
+                teacher.reviews.add(review);
+                teacher.ratingSum += review.rating;
+            }
+            teacher.ratingCount = teacher.reviews.size();
+            teacher.rating = BigDecimal.valueOf(teacher.ratingSum * 100 / teacher.ratingCount, 2);
+            teachers.add(teacher);
+        }
+        return teachers;
+    }
+
+    static List<Parent> parents(int count) {
+        List<Parent> parents = new ArrayList<>(count);
+        long childId = 1;
+        for (int i = 0; i < count; i++) {
+            Parent parent = new Parent("parent" + i + "@email.com", null, "Prénom" + i, "Nom" + i);
+            parent.id = 1L + i;
+            for (int c = 0; c < CHILDREN_PER_PARENT; c++) {
+                Child child = new Child("Enfant" + c, 8 + c * 3, c == 0 ? "CM1" : "4ème", parent);
+                child.id = childId++;
+                parent.children.add(child);
+            }
+            parents.add(parent);
+        }
+        return parents;
+    }
+
+    static List<Request> requests(int count) {
+        Random random = new Random(42);
+        List<Teacher> teachers = teachers(Math.max(1, count / 10));
+        List<Parent> parents = parents(Math.max(1, count / 10));
+        List<Request> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Teacher teacher = teachers.get(random.nextInt(teachers.size()));
+            Course course = new Course(teacher.subject, "Cours hebdomadaire", teacher.hourlyRate,
+                    teacher.teachingLocations, teacher);
+            course.id = teacher.id;
+            Request request = new Request(parents.get(random.nextInt(parents.size())), teacher, course,
+                    "Bonjour, je souhaiterais des cours pour mon enfant le mercredi après-midi.");
+            request.id = 1L + i;
+            request.status = Request.RequestStatus.values()[i % Request.RequestStatus.values().length];
+            request.createdAt = LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    static List<Appointment> appointments(int count) {
+        Random random = new Random(42);
+        List<Request> requests = requests(count);
+        List<Appointment> appointments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Request request = requests.get(i);
+            Appointment appointment = new Appointment();
+            appointment.id = 1L + i;
+            appointment.request = request;
+            appointment.parent = request.parent;
+            appointment.teacher = request.teacher;
+            appointment.date = LocalDate.of(2025, 2, 1).plusDays(i % 90);
+            appointment.startTime = LocalTime.of(8 + random.nextInt(10), 0);
+            appointment.endTime = appointment.startTime.plusMinutes(90);
+            appointment.location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            appointment.status = Appointment.AppointmentStatus.values()[i % Appointment.AppointmentStatus.values().length];
+            appointments.add(appointment);
+        }
+        return appointments;
+    }
+
+    private static List<Teacher.TeachingLocation> locations(Random random) {
+        List<Teacher.TeachingLocation> locations = new ArrayList<>();
+        for (Teacher.TeachingLocation location : LOCATIONS) {
+            if (random.nextBoolean()) {
+                locations.add(location);
+            }
+        }
+        if (locations.isEmpty()) {
+            locations.add(Teacher.TeachingLocation.ONLINE);
+        }
+        return locations;
+    }
+}
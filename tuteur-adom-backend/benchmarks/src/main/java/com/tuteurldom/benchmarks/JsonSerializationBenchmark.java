@@ -0,0 +1,98 @@
+package com.tuteurldom.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.tuteurldom.dto.AppointmentDto;
+import com.tuteurldom.dto.RequestDto;
+import com.tuteurldom.dto.TeacherSummaryDto;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Sérialisation Jackson des réponses de liste en octets (comme TeacherProfileCache),
+// avec la configuration de quarkus-jackson : accès par réflexion, puis Afterburner
+// (bytecode généré) et Blackbird (LambdaMetafactory)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    public enum Mapper {
+        REFLECTION, AFTERBURNER, BLACKBIRD
+    }
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    @Param({"REFLECTION", "AFTERBURNER", "BLACKBIRD"})
+    Mapper mapper;
+
+    List<TeacherSummaryDto> teachers;
+    List<RequestDto> requests;
+    List<AppointmentDto> appointments;
+    ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        teachers = Fixtures.teachers(size).stream()
+                .map(teacher -> new TeacherSummaryDto(teacher, teacher.ratingCount))
+                .collect(Collectors.toList());
+        requests = Fixtures.requests(size).stream().map(RequestDto::new).collect(Collectors.toList());
+        appointments = Fixtures.appointments(size).stream().map(AppointmentDto::new).collect(Collectors.toList());
+        writer = mapper(mapper).writer();
+    }
+
+    @Benchmark
+    public byte[] teacherSummaries() throws JsonProcessingException {
+        return writer.writeValueAsBytes(teachers);
+    }
+
+    @Benchmark
+    public byte[] requests() throws JsonProcessingException {
+        return writer.writeValueAsBytes(requests);
+    }
+
+    @Benchmark
+    public byte[] appointments() throws JsonProcessingException {
+        return writer.writeValueAsBytes(appointments);
+    }
+
+    // Mêmes modules et options que l'ObjectMapper fourni par quarkus-jackson
+    static JsonMapper mapper(Mapper kind) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .addModule(new Jdk8Module())
+                .addModule(new JavaTimeModule())
+                .addModule(new ParameterNamesModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        switch (kind) {
+            case AFTERBURNER -> builder.addModule(new AfterburnerModule());
+            case BLACKBIRD -> builder.addModule(new BlackbirdModule());
+            default -> { }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.tuteurldom.benchmarks;
+
+import com.tuteurldom.entity.Teacher;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Résolution des lieux d'enseignement, par élément : enum -> label (DTOs), label -> enum
+// par parcours de values() (CourseResource, AppointmentResource), nom -> enum par
+// valueOf(toUpperCase) (TeacherResource), et une table label -> enum pour comparaison
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeachingLocationBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    private static final Map<String, Teacher.TeachingLocation> BY_LABEL = Arrays.stream(Teacher.TeachingLocation.values())
+            .collect(Collectors.toUnmodifiableMap(location -> location.label, Function.identity()));
+
+    Teacher.TeachingLocation[] locations;
+    String[] labels;
+    String[] names;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Teacher.TeachingLocation[] values = Teacher.TeachingLocation.values();
+        locations = new Teacher.TeachingLocation[INPUTS];
+        labels = new String[INPUTS];
+        names = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            locations[i] = values[random.nextInt(values.length)];
+            // Nouvelle instance à chaque fois, comme une chaîne lue dans un corps JSON
+            labels[i] = new String(locations[i].label.toCharArray());
+            names[i] = locations[i].name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void label(Blackhole blackhole) {
+        for (Teacher.TeachingLocation location : locations) {
+            blackhole.consume(location.label);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void fromLabelByScan(Blackhole blackhole) {
+        for (String label : labels) {
+            Teacher.TeachingLocation found = null;
+            for (Teacher.TeachingLocation location : Teacher.TeachingLocation.values()) {
+                if (location.label.equals(label)) {
+                    found = location;
+                    break;
+                }
+            }
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void fromLabelByMap(Blackhole blackhole) {
+        for (String label : labels) {
+            blackhole.consume(BY_LABEL.get(label));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void fromNameByValueOf(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(Teacher.TeachingLocation.valueOf(name.toUpperCase()));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+# Génère la paire de clés RS256 des profils dev et test dans .jwt-dev/ (hors dépôt, hors archive).
+# Sans effet si elle existe déjà ; --force la remplace (les jetons déjà émis deviennent invalides).
+#
+#   ./jwt-dev-keys.sh [répertoire] [--force]
+set -euo pipefail
+cd "$(dirname "$0")"
+
+DIR=.jwt-dev
+FORCE=false
+for arg in "$@"; do
+    case "$arg" in
+        --force) FORCE=true ;;
+        *) DIR="$arg" ;;
+    esac
+done
+
+if [[ -f "$DIR/privateKey.pem" && -f "$DIR/publicKey.pem" && "$FORCE" == false ]]; then
+    exit 0
+fi
+
+mkdir -p "$DIR"
+openssl genpkey -algorithm RSA -pkeyopt rsa_keygen_bits:2048 -out "$DIR/privateKey.pem" 2>/dev/null
+chmod 600 "$DIR/privateKey.pem"
+openssl pkey -in "$DIR/privateKey.pem" -pubout -out "$DIR/publicKey.pem"
+echo "Clés de développement JWT générées dans $DIR"
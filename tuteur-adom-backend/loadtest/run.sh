@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Tir de charge de bout en bout sur une machine Linux nue (Java 17 et Maven, ni Docker ni MySQL) :
+# construit le backend sous le profil loadtest (Maven et Quarkus : H2 en mémoire en mode MySQL),
+# le démarre avec un jeu de données synthétique, lance le générateur de charge puis arrête le backend.
+#
+#   ./run.sh --users=100 --duration=2m --report=target/report.csv
+#   SEED_OPTS="-Dtuteur.seed.teachers=2000 -Dtuteur.seed.parents=20000" ./run.sh
+#
+# Les arguments sont transmis au générateur (voir Options.java).
+set -euo pipefail
+cd "$(dirname "$0")"
+
+PORT=${PORT:-8585}
+APP_JAVA_OPTS=${APP_JAVA_OPTS:--Xms1g -Xmx1g}
+SEED_OPTS=${SEED_OPTS:-}
+
+# Sortie dans target/loadtest (profil Maven) : le clean épargne l'artefact de production
+mvn -B -q -f ../pom.xml clean package -DskipTests -Dloadtest -Dquarkus.profile=loadtest
+mvn -B -q package
+# Paire de clés JWT locale (aucune clé n'est livrée avec l'application)
+../jwt-dev-keys.sh
+JWT_DIR=$(cd ../.jwt-dev && pwd)
+
+mkdir -p target
+# shellcheck disable=SC2086
+java $APP_JAVA_OPTS $SEED_OPTS -Dquarkus.profile=loadtest -Dquarkus.http.port="$PORT" \
+    -Dsmallrye.jwt.sign.key.location="$JWT_DIR/privateKey.pem" \
+    -Dmp.jwt.verify.publickey.location="$JWT_DIR/publicKey.pem" \
+    -jar ../target/loadtest/quarkus-app/quarkus-run.jar > target/backend.log 2>&1 &
+BACKEND_PID=$!
+trap 'kill $BACKEND_PID 2>/dev/null || true; wait $BACKEND_PID 2>/dev/null || true' EXIT
+
+java -jar target/loadtest.jar --base-url="http://localhost:$PORT" "$@"
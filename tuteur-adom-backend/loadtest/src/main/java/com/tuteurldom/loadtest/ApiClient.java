@@ -0,0 +1,97 @@
+package com.tuteurldom.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+// Appels HTTP bloquants vers l'API ; le corps n'est décodé que si l'appelant en a besoin
+final class ApiClient {
+
+    static final class Result {
+        final int status;
+        final JsonNode body;
+
+        Result(int status, JsonNode body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final String baseUrl;
+    private final Duration timeout;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    ApiClient(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    Result get(String path, boolean parse) throws IOException, InterruptedException {
+        return send(request(path).GET(), parse);
+    }
+
+    Result post(String path, Object body, boolean parse) throws IOException, InterruptedException {
+        return send(request(path).POST(json(body)), parse);
+    }
+
+    Result put(String path, Object body, boolean parse) throws IOException, InterruptedException {
+        return send(request(path).PUT(json(body)), parse);
+    }
+
+    // Attend que le backend réponde (démarrage et chargement des données synthétiques)
+    void awaitReady(Duration wait) throws InterruptedException {
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (true) {
+            try {
+                if (get("/api/health", false).isSuccess()) {
+                    return;
+                }
+            } catch (IOException e) {
+                // pas encore à l'écoute
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Backend indisponible sur " + baseUrl + " après " + wait.toSeconds() + " s");
+            }
+            Thread.sleep(500);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws JsonProcessingException {
+        return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body));
+    }
+
+    private Result send(HttpRequest.Builder builder, boolean parse) throws IOException, InterruptedException {
+        if (!parse) {
+            HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            return new Result(response.statusCode(), null);
+        }
+        HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode body = null;
+        if (response.statusCode() >= 200 && response.statusCode() < 300 && response.body().length > 0) {
+            body = mapper.readTree(response.body());
+        }
+        return new Result(response.statusCode(), body);
+    }
+}
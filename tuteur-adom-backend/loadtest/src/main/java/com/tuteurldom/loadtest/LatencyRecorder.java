@@ -0,0 +1,72 @@
+package com.tuteurldom.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Latences (µs) et codes de retour par opération. Une instance par utilisateur virtuel,
+// fusionnées en fin de tir : aucune synchronisation pendant la mesure.
+final class LatencyRecorder {
+
+    static final class Samples {
+        long[] latencies = new long[1024];
+        int count;
+        long ok;
+        long clientErrors;
+        long serverErrors;
+        long failures;
+
+        void add(long micros, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = micros;
+            if (status < 0) {
+                failures++;
+            } else if (status >= 500) {
+                serverErrors++;
+            } else if (status >= 400) {
+                clientErrors++;
+            } else {
+                ok++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            ok += other.ok;
+            clientErrors += other.clientErrors;
+            serverErrors += other.serverErrors;
+            failures += other.failures;
+        }
+
+        // À appeler après tri
+        long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return latencies[Math.max(0, Math.min(index, count - 1))];
+        }
+
+        void sort() {
+            Arrays.sort(latencies, 0, count);
+        }
+    }
+
+    final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+    // status < 0 : échec réseau ou délai dépassé
+    void record(Operation operation, long micros, int status) {
+        samples.computeIfAbsent(operation, key -> new Samples()).add(micros, status);
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((operation, values) ->
+                samples.computeIfAbsent(operation, key -> new Samples()).addAll(values));
+    }
+}
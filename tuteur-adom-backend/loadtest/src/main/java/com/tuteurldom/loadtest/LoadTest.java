@@ -0,0 +1,58 @@
+package com.tuteurldom.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Tir de charge de bout en bout contre un backend démarré (voir run.sh pour le profil loadtest) :
+// découverte des données, échauffement, mesure en boucle fermée, rapport par opération.
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        Workload workload = Workload.parse(options.mix);
+        ApiClient api = new ApiClient(options.baseUrl, options.timeout);
+
+        api.awaitReady(options.wait);
+        TestData data = TestData.discover(api);
+
+        System.out.println("Tir de charge : " + options);
+        System.out.printf("Données : %d enseignants actifs, %d parents, %d termes de recherche%n",
+                data.teacherIds.length, data.parentIds.length, data.searchTerms.length);
+        System.out.printf("Client : %d cœurs, Java %s%n",
+                Runtime.getRuntime().availableProcessors(), System.getProperty("java.version"));
+
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        long measureFrom = System.nanoTime() + options.warmup.toNanos();
+        long deadline = measureFrom + options.duration.toNanos();
+
+        List<VirtualUser> users = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < options.users; i++) {
+            VirtualUser user = new VirtualUser(i, options, workload, api, data, runId, measureFrom, deadline);
+            Thread thread = new Thread(user, "virtual-user-" + i);
+            users.add(user);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        users.forEach(user -> merged.merge(user.recorder));
+        Map<Operation, LatencyRecorder.Samples> samples = merged.samples;
+        samples.values().forEach(LatencyRecorder.Samples::sort);
+
+        double seconds = options.duration.toNanos() / 1e9;
+        Report.print(samples, seconds, System.out);
+        if (options.report != null) {
+            Report.writeCsv(Path.of(options.report), samples, seconds);
+            System.out.println("\nRapport CSV : " + options.report);
+        }
+    }
+}
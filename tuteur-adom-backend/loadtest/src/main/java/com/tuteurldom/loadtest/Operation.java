@@ -0,0 +1,29 @@
+package com.tuteurldom.loadtest;
+
+// Opérations du mélange de charge ; "courses" n'est pas tirée directement mais précède la
+// première demande d'un parent pour un enseignant (liste des cours consultée)
+enum Operation {
+    SEARCH("search"),
+    TEACHER("teacher"),
+    LOGIN("login"),
+    REGISTER("register"),
+    COURSES("courses"),
+    CREATE_REQUEST("createRequest"),
+    APPROVE("approve"),
+    BOOK("book");
+
+    final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Opération inconnue dans le mélange : " + key);
+    }
+}
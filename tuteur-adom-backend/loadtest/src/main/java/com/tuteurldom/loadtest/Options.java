@@ -0,0 +1,80 @@
+package com.tuteurldom.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Options en ligne de commande : --nom=valeur (ou --nom valeur)
+final class Options {
+
+    static final String DEFAULT_MIX = "search=40,teacher=20,login=10,register=5,createRequest=10,approve=8,book=7";
+
+    String baseUrl = "http://localhost:8484";
+    int users = 50;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    Duration thinkTime = Duration.ZERO;
+    Duration timeout = Duration.ofSeconds(10);
+    Duration wait = Duration.ofSeconds(120);
+    String mix = DEFAULT_MIX;
+    long seed = 42;
+    String password = "password123";
+    String report;
+
+    static Options parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Option inattendue : " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals > 0) {
+                values.put(arg.substring(2, equals), arg.substring(equals + 1));
+            } else if (i + 1 < args.length) {
+                values.put(arg.substring(2), args[++i]);
+            } else {
+                throw new IllegalArgumentException("Valeur manquante pour " + arg);
+            }
+        }
+
+        Options options = new Options();
+        values.forEach((name, value) -> {
+            switch (name) {
+                case "base-url" -> options.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "users" -> options.users = Integer.parseInt(value);
+                case "duration" -> options.duration = duration(value);
+                case "warmup" -> options.warmup = duration(value);
+                case "think-time" -> options.thinkTime = duration(value);
+                case "timeout" -> options.timeout = duration(value);
+                case "wait" -> options.wait = duration(value);
+                case "mix" -> options.mix = value;
+                case "seed" -> options.seed = Long.parseLong(value);
+                case "password" -> options.password = value;
+                case "report" -> options.report = value;
+                default -> throw new IllegalArgumentException("Option inconnue : --" + name);
+            }
+        });
+        return options;
+    }
+
+    // 500ms, 30s, 2m
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+
+    @Override
+    public String toString() {
+        return "base-url=" + baseUrl + " users=" + users + " duration=" + duration.toSeconds() + "s warmup="
+                + warmup.toSeconds() + "s think-time=" + thinkTime.toMillis() + "ms seed=" + seed + " mix=" + mix;
+    }
+}
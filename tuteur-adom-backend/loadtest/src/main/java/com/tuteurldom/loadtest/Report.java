@@ -0,0 +1,57 @@
+package com.tuteurldom.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+// Débit et percentiles de latence par opération, en tableau (console) et en CSV (--report)
+final class Report {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private Report() {
+    }
+
+    static void print(Map<Operation, LatencyRecorder.Samples> samples, double seconds, PrintStream out) {
+        out.printf(Locale.ROOT, "%n%-14s %9s %9s %9s %7s %7s %7s %9s %9s %9s %9s %9s%n", "operation", "count", "req/s",
+                "2xx-3xx", "4xx", "5xx", "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        LatencyRecorder.Samples total = new LatencyRecorder.Samples();
+        for (Map.Entry<Operation, LatencyRecorder.Samples> entry : samples.entrySet()) {
+            line(out, entry.getKey().key, entry.getValue(), seconds);
+            total.addAll(entry.getValue());
+        }
+        total.sort();
+        line(out, "total", total, seconds);
+    }
+
+    static void writeCsv(Path path, Map<Operation, LatencyRecorder.Samples> samples, double seconds) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.println("operation,count,rps,ok,client_errors,server_errors,failures,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+            for (Map.Entry<Operation, LatencyRecorder.Samples> entry : samples.entrySet()) {
+                LatencyRecorder.Samples values = entry.getValue();
+                writer.printf(Locale.ROOT, "%s,%d,%.1f,%d,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f%n", entry.getKey().key,
+                        values.count, values.count / seconds, values.ok, values.clientErrors, values.serverErrors,
+                        values.failures, millis(values.percentile(50)), millis(values.percentile(90)),
+                        millis(values.percentile(99)), millis(values.percentile(99.9)), millis(values.percentile(100)));
+            }
+        }
+    }
+
+    private static void line(PrintStream out, String name, LatencyRecorder.Samples values, double seconds) {
+        out.printf(Locale.ROOT, "%-14s %9d %9.1f %9d %7d %7d %7d", name, values.count, values.count / seconds,
+                values.ok, values.clientErrors, values.serverErrors, values.failures);
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %9.2f", millis(values.percentile(percentile)));
+        }
+        out.printf(Locale.ROOT, " %9.2f%n", millis(values.percentile(100)));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
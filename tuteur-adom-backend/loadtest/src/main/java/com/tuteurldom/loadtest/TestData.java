@@ -0,0 +1,74 @@
+package com.tuteurldom.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Données existantes découvertes par l'API avant le tir (enseignants actifs, parents, termes de
+// recherche), triées pour que le tirage aléatoire soit reproductible à graine égale
+final class TestData {
+
+    final long[] teacherIds;
+    final long[] parentIds;
+    final String[] parentEmails;
+    final String[] searchTerms;
+    // Cours par enseignant, chargés à la première demande (opération "courses")
+    final ConcurrentMap<Long, long[]> coursesByTeacher = new ConcurrentHashMap<>();
+
+    private TestData(long[] teacherIds, long[] parentIds, String[] parentEmails, String[] searchTerms) {
+        this.teacherIds = teacherIds;
+        this.parentIds = parentIds;
+        this.parentEmails = parentEmails;
+        this.searchTerms = searchTerms;
+    }
+
+    static TestData discover(ApiClient api) throws IOException, InterruptedException {
+        List<Long> teachers = new ArrayList<>();
+        TreeSet<String> terms = new TreeSet<>();
+        String cursor = null;
+        do {
+            String path = "/api/teachers?limit=100" + (cursor != null
+                    ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            JsonNode page = require(api.get(path, true), "liste des enseignants");
+            for (JsonNode teacher : page.get("items")) {
+                teachers.add(teacher.get("id").asLong());
+                for (String word : teacher.get("subject").asText().toLowerCase(Locale.ROOT).split("[^\\p{L}]+")) {
+                    if (word.length() >= 4) {
+                        terms.add(word);
+                    }
+                }
+            }
+            cursor = page.path("nextCursor").isTextual() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        JsonNode parents = require(api.get("/api/parents", true), "liste des parents");
+        TreeMap<Long, String> emailsById = new TreeMap<>();
+        for (JsonNode parent : parents) {
+            emailsById.put(parent.get("id").asLong(), parent.get("email").asText());
+        }
+
+        if (teachers.isEmpty() || emailsById.isEmpty()) {
+            throw new IllegalStateException("Aucun enseignant actif ou aucun parent : la base n'a pas été alimentée "
+                    + "(tuteur.seed.enabled=true sous le profil loadtest)");
+        }
+
+        return new TestData(teachers.stream().sorted().mapToLong(Long::longValue).toArray(),
+                emailsById.keySet().stream().mapToLong(Long::longValue).toArray(),
+                emailsById.values().toArray(new String[0]), terms.toArray(new String[0]));
+    }
+
+    private static JsonNode require(ApiClient.Result result, String what) {
+        if (!result.isSuccess() || result.body == null) {
+            throw new IllegalStateException("Échec de la découverte (" + what + ") : HTTP " + result.status);
+        }
+        return result.body;
+    }
+}
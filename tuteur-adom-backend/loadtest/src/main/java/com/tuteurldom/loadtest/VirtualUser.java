@@ -0,0 +1,198 @@
+package com.tuteurldom.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Utilisateur virtuel en boucle fermée : enchaîne les opérations du mélange, la suivante
+// partant à la fin de la précédente (plus le temps de réflexion). Chaque utilisateur joue un
+// parent fixe et garde ses propres demandes en attente / acceptées pour les parcours
+// demande -> acceptation -> rendez-vous.
+final class VirtualUser implements Runnable {
+
+    // Demandes conservées au plus par utilisateur, en attente de l'étape suivante
+    private static final int MAX_QUEUED = 1000;
+
+    private final int index;
+    private final Options options;
+    private final Workload workload;
+    private final ApiClient api;
+    private final TestData data;
+    private final String runId;
+    private final long measureFrom;
+    private final long deadline;
+    private final Random random;
+    private final long parentId;
+    private final String parentEmail;
+    private final ArrayDeque<Long> pending = new ArrayDeque<>();
+    private final ArrayDeque<Long> approved = new ArrayDeque<>();
+    private int registered;
+
+    final LatencyRecorder recorder = new LatencyRecorder();
+
+    VirtualUser(int index, Options options, Workload workload, ApiClient api, TestData data, String runId,
+                long measureFrom, long deadline) {
+        this.index = index;
+        this.options = options;
+        this.workload = workload;
+        this.api = api;
+        this.data = data;
+        this.runId = runId;
+        this.measureFrom = measureFrom;
+        this.deadline = deadline;
+        this.random = new Random(options.seed * 31 + index);
+        this.parentId = data.parentIds[index % data.parentIds.length];
+        this.parentEmail = data.parentEmails[index % data.parentEmails.length];
+    }
+
+    @FunctionalInterface
+    interface Call {
+        ApiClient.Result execute() throws IOException, InterruptedException;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (System.nanoTime() < deadline) {
+                execute(workload.next(random));
+                if (!options.thinkTime.isZero()) {
+                    Thread.sleep(options.thinkTime.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void execute(Operation operation) throws InterruptedException {
+        switch (operation) {
+            case SEARCH -> call(operation, () -> api.get("/api/teachers/search?limit=20&q="
+                    + URLEncoder.encode(pick(data.searchTerms), StandardCharsets.UTF_8), false));
+            case TEACHER -> call(operation, () -> api.get("/api/teachers/" + pick(data.teacherIds), false));
+            case LOGIN -> call(operation, () -> api.post("/api/auth/login",
+                    Map.of("email", parentEmail, "password", options.password), false));
+            case REGISTER -> register();
+            case COURSES -> courses(pick(data.teacherIds));
+            case CREATE_REQUEST -> createRequest();
+            case APPROVE -> approve();
+            case BOOK -> book();
+        }
+    }
+
+    private void register() throws InterruptedException {
+        String email = "lt-" + runId + "-" + index + "-" + (++registered) + "@loadtest.local";
+        call(Operation.REGISTER, () -> api.post("/api/auth/register/parent", Map.of(
+                "email", email,
+                "password", options.password,
+                "firstName", "Charge",
+                "lastName", "Utilisateur" + index,
+                "children", List.of(Map.of("name", "Enfant", "age", 10, "grade", "CM2"))), false));
+    }
+
+    private long[] courses(long teacherId) throws InterruptedException {
+        long[] cached = data.coursesByTeacher.get(teacherId);
+        if (cached != null) {
+            return cached;
+        }
+        ApiClient.Result result = call(Operation.COURSES, () -> api.get("/api/courses/by-teacher/" + teacherId, true));
+        if (result == null || result.body == null) {
+            return null;
+        }
+        long[] courseIds = new long[result.body.size()];
+        for (int i = 0; i < courseIds.length; i++) {
+            courseIds[i] = result.body.get(i).get("id").asLong();
+        }
+        data.coursesByTeacher.put(teacherId, courseIds);
+        return courseIds;
+    }
+
+    private void createRequest() throws InterruptedException {
+        long teacherId = pick(data.teacherIds);
+        long[] courseIds = courses(teacherId);
+        if (courseIds == null || courseIds.length == 0) {
+            return;
+        }
+        long courseId = courseIds[random.nextInt(courseIds.length)];
+        ApiClient.Result result = call(Operation.CREATE_REQUEST, () -> api.post("/api/requests", Map.of(
+                "parentId", parentId,
+                "teacherId", teacherId,
+                "courseId", courseId,
+                "message", "Demande de cours (tir de charge)"), true));
+        enqueue(pending, result);
+    }
+
+    // Sans demande en attente, le parcours repart de la création
+    private void approve() throws InterruptedException {
+        Long requestId = pending.poll();
+        if (requestId == null) {
+            createRequest();
+            return;
+        }
+        ApiClient.Result result = call(Operation.APPROVE, () -> api.put("/api/requests/" + requestId + "/status",
+                Map.of("status", "approved"), true));
+        enqueue(approved, result);
+    }
+
+    // Sans demande acceptée, le parcours repart de l'acceptation ; un créneau déjà pris
+    // donne un 409, compté parmi les 4xx
+    private void book() throws InterruptedException {
+        Long requestId = approved.poll();
+        if (requestId == null) {
+            approve();
+            return;
+        }
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(365));
+        LocalTime start = LocalTime.of(8 + random.nextInt(11), 0);
+        call(Operation.BOOK, () -> api.post("/api/appointments", Map.of(
+                "requestId", requestId,
+                "date", date.toString(),
+                "startTime", start.toString(),
+                "endTime", start.plusHours(1).toString(),
+                "location", "En ligne"), false));
+    }
+
+    private void enqueue(ArrayDeque<Long> queue, ApiClient.Result result) {
+        if (result == null || result.body == null) {
+            return;
+        }
+        JsonNode id = result.body.get("id");
+        if (id != null) {
+            if (queue.size() == MAX_QUEUED) {
+                queue.poll();
+            }
+            queue.add(id.asLong());
+        }
+    }
+
+    // Chronomètre l'appel ; seuls les appels partis après l'échauffement et avant la fin sont comptés.
+    // null en cas d'échec réseau ou de délai dépassé.
+    private ApiClient.Result call(Operation operation, Call call) throws InterruptedException {
+        long start = System.nanoTime();
+        ApiClient.Result result = null;
+        try {
+            result = call.execute();
+        } catch (IOException e) {
+            // compté comme échec ci-dessous
+        }
+        long end = System.nanoTime();
+        if (start >= measureFrom && start < deadline) {
+            recorder.record(operation, (end - start) / 1_000, result != null ? result.status : -1);
+        }
+        return result;
+    }
+
+    private long pick(long[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,51 @@
+package com.tuteurldom.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Mélange pondéré d'opérations, ex. "search=40,login=10,book=5"
+final class Workload {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    private Workload(Operation[] operations, int[] cumulativeWeights) {
+        this.operations = operations;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static Workload parse(String mix) {
+        List<Operation> operations = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int total = 0;
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrée de mélange invalide : " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight <= 0) {
+                continue;
+            }
+            total += weight;
+            operations.add(Operation.fromKey(parts[0].trim()));
+            cumulative.add(total);
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Mélange vide : " + mix);
+        }
+        return new Workload(operations.toArray(new Operation[0]),
+                cumulative.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    Operation next(Random random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
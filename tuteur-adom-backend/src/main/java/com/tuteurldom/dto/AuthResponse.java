@@ -4,6 +4,9 @@ public class AuthResponse {
     
     public Object user;
     public String token;
+    public String refreshToken;
+    // Durée de validité du jeton d'accès, en secondes
+    public long expiresIn;
     
     public AuthResponse() {}
     
@@ -11,4 +14,10 @@ public class AuthResponse {
         this.user = user;
         this.token = token;
     }
+
+    public AuthResponse(Object user, String token, String refreshToken, long expiresIn) {
+        this(user, token);
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
 } 
\ No newline at end of file
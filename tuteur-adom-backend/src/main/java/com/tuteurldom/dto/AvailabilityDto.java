@@ -0,0 +1,23 @@
+package com.tuteurldom.dto;
+
+import com.tuteurldom.entity.Availability;
+import java.time.LocalTime;
+
+public class AvailabilityDto {
+    
+    public String id;
+    public String teacherId;
+    public Integer dayOfWeek;
+    public LocalTime startTime;
+    public LocalTime endTime;
+    
+    public AvailabilityDto() {}
+    
+    public AvailabilityDto(Availability availability) {
+        this.id = availability.id.toString();
+        this.teacherId = availability.teacher.id.toString();
+        this.dayOfWeek = availability.dayOfWeek;
+        this.startTime = availability.startTime;
+        this.endTime = availability.endTime;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tuteurldom.dto;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// Changement de statut groupé : une liste d'ids et le statut cible
+public class BulkStatusRequest {
+
+    public static final int MAX_IDS = 1000;
+
+    public List<Long> ids;
+    public String status;
+
+    public BulkStatusRequest() {}
+
+    public boolean hasValidIds() {
+        return ids != null && !ids.isEmpty() && ids.size() <= MAX_IDS;
+    }
+
+    // Ids sans doublons ni valeurs nulles, dans l'ordre de la requête
+    public Set<Long> distinctIds() {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        distinct.removeIf(Objects::isNull);
+        return distinct;
+    }
+}
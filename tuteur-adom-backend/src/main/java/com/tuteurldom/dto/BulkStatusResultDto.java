@@ -0,0 +1,44 @@
+package com.tuteurldom.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Résultat d'un changement de statut groupé, pour un id
+public class BulkStatusResultDto {
+
+    public enum Result {
+        UPDATED, UNCHANGED, NOT_FOUND
+    }
+
+    public String id;
+    public String previousStatus;
+    public String status;
+    public Result result;
+
+    public BulkStatusResultDto() {}
+
+    public BulkStatusResultDto(Long id, Enum<?> previousStatus, Enum<?> status, Result result) {
+        this.id = id.toString();
+        this.previousStatus = previousStatus != null ? previousStatus.name() : null;
+        this.status = status != null ? status.name() : null;
+        this.result = result;
+    }
+
+    // Un résultat par id demandé, dans l'ordre de la requête
+    public static <S extends Enum<S>> List<BulkStatusResultDto> of(Collection<Long> ids, Map<Long, S> previous,
+                                                                   S target) {
+        List<BulkStatusResultDto> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            S before = previous.get(id);
+            if (before == null) {
+                results.add(new BulkStatusResultDto(id, null, null, Result.NOT_FOUND));
+            } else {
+                results.add(new BulkStatusResultDto(id, before, target,
+                        before == target ? Result.UNCHANGED : Result.UPDATED));
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,19 @@
+package com.tuteurldom.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public class FreeSlotDto {
+    
+    public LocalDate date;
+    public LocalTime startTime;
+    public LocalTime endTime;
+    
+    public FreeSlotDto() {}
+    
+    public FreeSlotDto(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
@@ -0,0 +1,20 @@
+package com.tuteurldom.dto;
+
+import java.util.List;
+
+public class PageDto<T> {
+    
+    public List<T> items;
+    public String nextCursor;
+    public boolean hasMore;
+    public int limit;
+    
+    public PageDto() {}
+    
+    public PageDto(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+        this.limit = limit;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tuteurldom.dto;
+
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Request;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Écran d'accueil d'un parent en une seule réponse : profil et enfants, demandes, rendez-vous
+// à venir et enseignants concernés. Demandes et rendez-vous portent déjà la matière du cours
+// et le nom de l'enseignant, le détail de l'enseignant est dans teachers.
+public class ParentDashboardDto {
+
+    public ParentDto parent;
+    public List<RequestItem> requests;
+    public List<AppointmentItem> upcomingAppointments;
+    public List<TeacherSummaryDto> teachers;
+
+    public ParentDashboardDto() {}
+
+    public ParentDashboardDto(ParentDto parent, List<RequestItem> requests,
+                              List<AppointmentItem> upcomingAppointments, List<TeacherSummaryDto> teachers) {
+        this.parent = parent;
+        this.requests = requests;
+        this.upcomingAppointments = upcomingAppointments;
+        this.teachers = teachers;
+
+        Map<String, TeacherSummaryDto> teachersById = teachers.stream()
+                .collect(Collectors.toMap(teacher -> teacher.id, Function.identity()));
+        requests.forEach(request -> request.teacherName = fullName(teachersById.get(request.teacherId)));
+        upcomingAppointments.forEach(appointment ->
+                appointment.teacherName = fullName(teachersById.get(appointment.teacherId)));
+    }
+
+    private static String fullName(TeacherSummaryDto teacher) {
+        return teacher != null ? teacher.getFullName() : null;
+    }
+
+    public static class RequestItem extends RequestDto {
+        public String courseSubject;
+        public String teacherName;
+
+        public RequestItem() {}
+
+        // Cours chargé avec la demande
+        public RequestItem(Request request) {
+            super(request);
+            this.courseSubject = request.course.subject;
+        }
+    }
+
+    public static class AppointmentItem extends AppointmentDto {
+        public String courseSubject;
+        public String teacherName;
+
+        public AppointmentItem() {}
+
+        // Demande et cours chargés avec le rendez-vous
+        public AppointmentItem(Appointment appointment) {
+            super(appointment);
+            this.courseSubject = appointment.request.course.subject;
+        }
+    }
+}
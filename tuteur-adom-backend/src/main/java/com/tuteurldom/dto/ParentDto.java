@@ -2,6 +2,7 @@ package com.tuteurldom.dto;
 
 import com.tuteurldom.entity.Parent;
 import com.tuteurldom.entity.Child;
+import com.tuteurldom.service.ProfilePictureStore;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -13,6 +14,7 @@ public class ParentDto {
     public String email;
     public String role;
     public String profilePicture;
+    public String profilePictureThumbnail;
     public String status;
     public List<ChildDto> children;
     
@@ -24,7 +26,8 @@ public class ParentDto {
         this.lastName = parent.lastName;
         this.email = parent.email;
         this.role = parent.role.name().toLowerCase();
-        this.profilePicture = parent.profilePicture;
+        this.profilePicture = parent.profilePictureUrl;
+        this.profilePictureThumbnail = ProfilePictureStore.thumbnailUrl(parent.profilePictureUrl, 128);
         this.status = "active"; // Par défaut, tous les parents sont actifs
         
         // Mapper les enfants
@@ -0,0 +1,43 @@
+package com.tuteurldom.dto;
+
+import com.tuteurldom.entity.Teacher;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Curseur opaque pour la pagination des enseignants : position (rating, id) du dernier
+// élément renvoyé, encodée en base64 URL-safe pour que le client n'ait pas à l'interpréter.
+// La colonne rating est non NULL : le curseur porte la valeur exacte comparée en base.
+public class TeacherCursor {
+
+    public final BigDecimal rating;
+    public final Long id;
+
+    public TeacherCursor(BigDecimal rating, Long id) {
+        this.rating = rating;
+        this.id = id;
+    }
+
+    public static TeacherCursor of(Teacher teacher) {
+        return new TeacherCursor(teacher.rating != null ? teacher.rating : BigDecimal.ZERO, teacher.id);
+    }
+
+    public String encode() {
+        String raw = rating.toPlainString() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Lève IllegalArgumentException si le curseur n'a pas été produit par encode()
+    public static TeacherCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Curseur invalide");
+        }
+        return new TeacherCursor(
+                new BigDecimal(raw.substring(0, separator)),
+                Long.valueOf(raw.substring(separator + 1))
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.tuteurldom.dto;
+
+import com.tuteurldom.entity.Teacher;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Vue liste d'un enseignant : pas d'avis, seulement leur nombre
+public class TeacherSummaryDto extends UserDto {
+    
+    public String subject;
+    public BigDecimal hourlyRate;
+    public List<String> teachingLocations;
+    public String skills;
+    public String bio;
+    public String cvUrl;
+    public String status;
+    public BigDecimal rating;
+    public long reviewCount;
+    
+    public TeacherSummaryDto() {
+        super();
+    }
+    
+    public TeacherSummaryDto(Teacher teacher, long reviewCount) {
+        super(teacher);
+        this.subject = teacher.subject;
+        this.hourlyRate = teacher.hourlyRate;
+        this.teachingLocations = teacher.teachingLocations.stream()
+                .map(location -> location.label)
+                .collect(Collectors.toList());
+        this.skills = teacher.skills;
+        this.bio = teacher.bio;
+        this.cvUrl = teacher.cvUrl;
+        this.status = teacher.status.name().toLowerCase();
+        this.rating = teacher.rating;
+        this.reviewCount = reviewCount;
+    }
+}
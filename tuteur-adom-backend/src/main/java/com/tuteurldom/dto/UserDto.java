@@ -1,6 +1,7 @@
 package com.tuteurldom.dto;
 
 import com.tuteurldom.entity.User;
+import com.tuteurldom.service.ProfilePictureStore;
 
 public class UserDto {
     
@@ -10,6 +11,8 @@ public class UserDto {
     public String lastName;
     public String role;
     public String profilePicture;
+    // Vignette 128 px pour les listes et cartes (même URL que profilePicture pour une photo externe)
+    public String profilePictureThumbnail;
     
     public UserDto() {}
     
@@ -19,7 +22,8 @@ public class UserDto {
         this.firstName = user.firstName;
         this.lastName = user.lastName;
         this.role = user.role.name().toLowerCase();
-        this.profilePicture = user.profilePicture;
+        this.profilePicture = user.profilePictureUrl;
+        this.profilePictureThumbnail = ProfilePictureStore.thumbnailUrl(user.profilePictureUrl, 128);
     }
     
     public String getFullName() {
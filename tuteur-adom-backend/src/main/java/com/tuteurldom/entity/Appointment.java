@@ -1,5 +1,6 @@
 package com.tuteurldom.entity;
 
+import com.tuteurldom.service.StatsEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
@@ -7,7 +8,11 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "appointments")
+@EntityListeners(StatsEntityListener.class)
+@Table(name = "appointments", indexes = {
+        // Détection des chevauchements et chargement du planning d'un enseignant
+        @Index(name = "idx_appointments_teacher_date", columnList = "teacher_id, date")
+})
 public class Appointment extends PanacheEntityBase {
 
     @Id
@@ -46,6 +51,10 @@ public class Appointment extends PanacheEntityBase {
     @Column(nullable = false)
     public AppointmentStatus status = AppointmentStatus.SCHEDULED;
 
+    // Statut tel que lu en base, utilisé par StatsEntityListener pour détecter les transitions
+    @Transient
+    public AppointmentStatus persistedStatus;
+
     // Constructeurs
     public Appointment() {}
 
@@ -0,0 +1,48 @@
+package com.tuteurldom.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import java.time.LocalTime;
+
+@Entity
+@Table(name = "teacher_availabilities", indexes = {
+        @Index(name = "idx_teacher_availabilities_teacher", columnList = "teacher_id")
+})
+public class Availability extends PanacheEntityBase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "teacher_id", nullable = false)
+    public Teacher teacher;
+
+    // 0 = dimanche ... 6 = samedi (même convention que le frontend)
+    @NotNull
+    @Min(0)
+    @Max(6)
+    @Column(name = "day_of_week", nullable = false)
+    public Integer dayOfWeek;
+
+    @NotNull
+    @Column(name = "start_time", nullable = false)
+    public LocalTime startTime;
+
+    @NotNull
+    @Column(name = "end_time", nullable = false)
+    public LocalTime endTime;
+
+    // Constructeurs
+    public Availability() {}
+
+    public Availability(Teacher teacher, Integer dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        this.teacher = teacher;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+}
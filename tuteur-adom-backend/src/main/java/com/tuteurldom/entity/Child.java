@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 
 @Entity
+@Cacheable
 @Table(name = "children")
 public class Child extends PanacheEntityBase {
 
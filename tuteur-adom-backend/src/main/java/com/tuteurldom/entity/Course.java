@@ -5,12 +5,15 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
 @Table(name = "courses")
 public class Course extends PanacheEntityBase {
 
@@ -30,6 +33,7 @@ public class Course extends PanacheEntityBase {
     @Column(name = "hourly_rate", nullable = false, precision = 10, scale = 2)
     public BigDecimal hourlyRate;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(targetClass = Teacher.TeachingLocation.class, fetch = FetchType.EAGER)
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "course_locations", joinColumns = @JoinColumn(name = "course_id"))
@@ -1,13 +1,19 @@
 package com.tuteurldom.entity;
 
+import com.tuteurldom.service.StatsEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(StatsEntityListener.class)
 @Table(name = "parents")  
 public class Parent extends User {
 
+    // Identifiants des enfants en cache de second niveau, les enfants eux-mêmes dans la région Child
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     public List<Child> children = new ArrayList<>();
 
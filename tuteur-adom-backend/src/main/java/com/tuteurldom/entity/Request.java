@@ -1,5 +1,6 @@
 package com.tuteurldom.entity;
 
+import com.tuteurldom.service.StatsEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(StatsEntityListener.class)
 @Table(name = "requests")
 public class Request extends PanacheEntityBase {
 
@@ -32,6 +34,10 @@ public class Request extends PanacheEntityBase {
     @Column(nullable = false)
     public RequestStatus status = RequestStatus.PENDING;
 
+    // Statut tel que lu en base, utilisé par StatsEntityListener pour détecter les transitions
+    @Transient
+    public RequestStatus persistedStatus;
+
     @NotBlank
     @Column(columnDefinition = "TEXT", nullable = false)
     public String message;
@@ -9,7 +9,13 @@ import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // Pagination des avis d'un enseignant (teacher_id = ?, order by id desc)
+        @Index(name = "idx_reviews_teacher_id", columnList = "teacher_id, id")
+}, uniqueConstraints = {
+        // Un seul avis par parent et par enseignant
+        @UniqueConstraint(name = "uk_reviews_parent_teacher", columnNames = {"parent_id", "teacher_id"})
+})
 public class Review extends PanacheEntityBase {
 
     @Id
@@ -1,17 +1,31 @@
 package com.tuteurldom.entity;
 
+import com.tuteurldom.service.StatsEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
+// En cache de second niveau (région de la racine User, héritage JOINED) : profils lus bien plus
+// souvent qu'écrits. Les mises à jour natives de TeacherRepository invalident la région.
 @Entity
-@Table(name = "teachers")
+@Cacheable
+@EntityListeners(StatsEntityListener.class)
+@NamedEntityGraph(name = Teacher.GRAPH_SUMMARY, attributeNodes = @NamedAttributeNode("teachingLocations"))
+@Table(name = "teachers", indexes = {
+        // Sert la pagination par curseur de la recherche (status = ACTIVE, order by rating desc, id)
+        @Index(name = "idx_teachers_status_rating_id", columnList = "status, rating DESC, id")
+})
 public class Teacher extends User {
 
+    // Plan de chargement des listes : lieux d'enseignement joints, avis non chargés
+    public static final String GRAPH_SUMMARY = "Teacher.summary";
+
     @NotBlank
     @Column(nullable = false)
     public String subject;
@@ -21,9 +35,11 @@ public class Teacher extends User {
     @Column(name = "hourly_rate", nullable = false, precision = 10, scale = 2)
     public BigDecimal hourlyRate;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(targetClass = TeachingLocation.class, fetch = FetchType.EAGER)
     @Enumerated(EnumType.STRING)
-    @CollectionTable(name = "teacher_locations", joinColumns = @JoinColumn(name = "teacher_id"))
+    @CollectionTable(name = "teacher_locations", joinColumns = @JoinColumn(name = "teacher_id"),
+            indexes = @Index(name = "idx_teacher_locations_location", columnList = "location, teacher_id"))
     @Column(name = "location")
     public List<TeachingLocation> teachingLocations = new ArrayList<>();
 
@@ -40,9 +56,23 @@ public class Teacher extends User {
     @Column(nullable = false)
     public TeacherStatus status = TeacherStatus.PENDING;
 
-    @Column(precision = 3, scale = 2)
+    // Statut tel que lu en base, utilisé par StatsEntityListener pour détecter les transitions
+    @Transient
+    public TeacherStatus persistedStatus;
+
+    // Note moyenne et ses agrégats : modifiés uniquement par les mises à jour SQL de
+    // TeacherRepository (incrément atomique à chaque avis, recalage périodique par TeacherRatings).
+    // Jamais écrits au flush de l'entité, qui écraserait un incrément concurrent.
+    // Jamais NULL (0 sans avis) : la pagination par curseur compare et trie rating directement.
+    @Column(precision = 3, scale = 2, nullable = false, updatable = false)
     public BigDecimal rating = BigDecimal.ZERO;
 
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    public long ratingSum;
+
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    public long ratingCount;
+
     @OneToMany(mappedBy = "teacher", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     public List<Review> reviews = new ArrayList<>();
 
@@ -87,17 +117,4 @@ public class Teacher extends User {
     public enum TeacherStatus {
         PENDING, ACTIVE, SUSPENDED
     }
-
-    // Méthodes utilitaires
-    public void updateRating() {
-        if (reviews.isEmpty()) {
-            this.rating = BigDecimal.ZERO;
-        } else {
-            double averageRating = reviews.stream()
-                    .mapToInt(review -> review.rating)
-                    .average()
-                    .orElse(0.0);
-            this.rating = BigDecimal.valueOf(averageRating);
-        }
-    }
-} 
\ No newline at end of file
+}
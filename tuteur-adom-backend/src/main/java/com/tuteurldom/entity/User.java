@@ -35,9 +35,18 @@ public abstract class User extends PanacheEntityBase {
     @Column(name = "last_name", nullable = false)
     public String lastName;
 
+    // Ancienne photo en base64, conservée le temps de la migration vers ProfilePictureStore.
+    // Chargée uniquement à la demande pour ne plus alourdir chaque lecture de ligne.
+    @Basic(fetch = FetchType.LAZY)
     @Column(name = "profile_picture", columnDefinition = "LONGTEXT")
     public String profilePicture;
 
+    @Column(name = "profile_picture_hash", length = 64)
+    public String profilePictureHash;
+
+    @Column(name = "profile_picture_url")
+    public String profilePictureUrl;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     public UserRole role;
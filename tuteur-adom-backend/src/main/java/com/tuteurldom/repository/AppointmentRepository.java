@@ -1,18 +1,35 @@
 package com.tuteurldom.repository;
 
 import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
+@Measured
+@JdbcPermit
 public class AppointmentRepository implements PanacheRepository<Appointment> {
 
     public List<Appointment> findByParentId(Long parentId) {
         return list("parent.id", parentId);
     }
 
+    // Rendez-vous programmés d'un parent à partir d'une date, avec demande, cours et lieux du cours (tableau de bord)
+    public List<Appointment> findUpcomingByParentId(Long parentId, LocalDate fromDate) {
+        return list("select distinct a from Appointment a join fetch a.request r join fetch r.course c "
+                        + "left join fetch c.locations "
+                        + "where a.parent.id = ?1 and a.date >= ?2 and a.status = ?3 order by a.date, a.startTime",
+                parentId, fromDate, Appointment.AppointmentStatus.SCHEDULED);
+    }
+
     public List<Appointment> findByTeacherId(Long teacherId) {
         return list("teacher.id", teacherId);
     }
@@ -28,4 +45,69 @@ public class AppointmentRepository implements PanacheRepository<Appointment> {
     public List<Appointment> findByTeacherAndDate(Long teacherId, LocalDate date) {
         return list("teacher.id = ?1 and date = ?2", teacherId, date);
     }
-} 
\ No newline at end of file
+
+    public List<Appointment> findScheduledByTeacherFrom(Long teacherId, LocalDate fromDate) {
+        return list("teacher.id = ?1 and date >= ?2 and status = ?3",
+                teacherId, fromDate, Appointment.AppointmentStatus.SCHEDULED);
+    }
+
+    // Créneaux programmés d'une période, sans charger les entités : (teacherId, date, début, fin)
+    public List<Object[]> findScheduledSlotsBetween(LocalDate startDate, LocalDate endDate) {
+        return getEntityManager()
+                .createQuery("select a.teacher.id, a.date, a.startTime, a.endTime from Appointment a "
+                        + "where a.date >= :startDate and a.date <= :endDate and a.status = :status", Object[].class)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setParameter("status", Appointment.AppointmentStatus.SCHEDULED)
+                .getResultList();
+    }
+
+    // Chevauchement avec un rendez-vous programmé du même enseignant (index teacher_id, date)
+    public boolean existsOverlap(Long teacherId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                                 Long excludedAppointmentId) {
+        return find("teacher.id = ?1 and date = ?2 and status = ?3 and startTime < ?4 and endTime > ?5 and id <> ?6",
+                teacherId, date, Appointment.AppointmentStatus.SCHEDULED, endTime, startTime,
+                excludedAppointmentId != null ? excludedAppointmentId : -1L)
+                .firstResultOptional()
+                .isPresent();
+    }
+
+    // Nombre de lignes par statut en une seule requête groupée
+    public Map<Appointment.AppointmentStatus, Long> countByStatus() {
+        Map<Appointment.AppointmentStatus, Long> counts = new EnumMap<>(Appointment.AppointmentStatus.class);
+        for (Appointment.AppointmentStatus status : Appointment.AppointmentStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        List<Object[]> rows = getEntityManager()
+                .createQuery("select status, count(*) from Appointment group by status", Object[].class)
+                .getResultList();
+        for (Object[] row : rows) {
+            counts.put((Appointment.AppointmentStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // Statut actuel de chaque rendez-vous trouvé, en une requête (ids absents = inexistants)
+    public Map<Long, Appointment.AppointmentStatus> findStatusesByIds(Collection<Long> ids) {
+        Map<Long, Appointment.AppointmentStatus> statuses = new HashMap<>();
+        List<Object[]> rows = getEntityManager()
+                .createQuery("select id, status from Appointment where id in :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList();
+        for (Object[] row : rows) {
+            statuses.put((Long) row[0], (Appointment.AppointmentStatus) row[1]);
+        }
+        return statuses;
+    }
+
+    public List<Appointment> findScheduledByIds(Collection<Long> ids) {
+        return list("id in ?1 and status = ?2", ids, Appointment.AppointmentStatus.SCHEDULED);
+    }
+
+    // Mise à jour en masse, en une seule instruction.
+    // Ne déclenche pas les listeners JPA : l'appelant répercute lui-même les transitions.
+    public int updateStatus(Collection<Long> ids, Appointment.AppointmentStatus status) {
+        return update("status = ?1 where id in ?2", status, ids);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tuteurldom.repository;
+
+import com.tuteurldom.entity.Availability;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.List;
+
+@ApplicationScoped
+@Measured
+@JdbcPermit
+public class AvailabilityRepository implements PanacheRepository<Availability> {
+
+    public List<Availability> findByTeacherId(Long teacherId) {
+        return list("teacher.id", teacherId);
+    }
+
+    public long deleteByTeacherId(Long teacherId) {
+        return delete("teacher.id", teacherId);
+    }
+}
@@ -1,15 +1,33 @@
 package com.tuteurldom.repository;
 
 import com.tuteurldom.entity.Course;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.jpa.HibernateHints;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @ApplicationScoped
+@Measured
+@JdbcPermit
 public class CourseRepository implements PanacheRepository<Course> {
 
+    // Résultat en cache de requêtes (identifiants), cours et lieux lus dans leurs régions :
+    // toute écriture sur la table courses invalide les résultats en cache
     public List<Course> findByTeacherId(Long teacherId) {
-        return list("teacher.id", teacherId);
+        return find("teacher.id", teacherId)
+                .withHint(HibernateHints.HINT_CACHEABLE, true)
+                .list();
+    }
+
+    public List<Course> findByTeacherIds(Collection<Long> teacherIds) {
+        if (teacherIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return list("teacher.id in ?1", teacherIds);
     }
 
     public List<Course> findBySubject(String subject) {
@@ -1,13 +1,26 @@
 package com.tuteurldom.repository;
 
 import com.tuteurldom.entity.Parent;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.util.List;
+import java.util.Optional;
 
 @ApplicationScoped
+@Measured
+@JdbcPermit
 public class ParentRepository implements PanacheRepository<Parent> {
 
+    // Parent et ses enfants en une requête (tableau de bord)
+    public Optional<Parent> findWithChildren(Long parentId) {
+        // Sans limite de lignes : Hibernate l'appliquerait en mémoire avec la jointure sur la collection
+        return list("select p from Parent p left join fetch p.children where p.id = ?1", parentId)
+                .stream()
+                .findFirst();
+    }
+
     public List<Parent> findAllParents() {
         return listAll();
     }
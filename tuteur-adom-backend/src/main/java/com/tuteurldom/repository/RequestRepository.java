@@ -1,17 +1,33 @@
 package com.tuteurldom.repository;
 
 import com.tuteurldom.entity.Request;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
+@Measured
+@JdbcPermit
 public class RequestRepository implements PanacheRepository<Request> {
 
     public List<Request> findByParentId(Long parentId) {
         return list("parent.id", parentId);
     }
 
+    // Demandes d'un parent avec leur cours et ses lieux, les plus récentes d'abord (tableau de bord) :
+    // lieux chargés par la jointure, pas de select course_locations par cours quand le cache est froid
+    public List<Request> findByParentIdWithCourse(Long parentId) {
+        return list("select distinct r from Request r join fetch r.course c left join fetch c.locations "
+                        + "where r.parent.id = ?1 order by r.createdAt desc, r.id desc",
+                parentId);
+    }
+
     public List<Request> findByTeacherId(Long teacherId) {
         return list("teacher.id", teacherId);
     }
@@ -23,4 +39,39 @@ public class RequestRepository implements PanacheRepository<Request> {
     public List<Request> findPendingRequests() {
         return list("status", Request.RequestStatus.PENDING);
     }
-} 
\ No newline at end of file
+
+    // Nombre de lignes par statut en une seule requête groupée
+    public Map<Request.RequestStatus, Long> countByStatus() {
+        Map<Request.RequestStatus, Long> counts = new EnumMap<>(Request.RequestStatus.class);
+        for (Request.RequestStatus status : Request.RequestStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        List<Object[]> rows = getEntityManager()
+                .createQuery("select status, count(*) from Request group by status", Object[].class)
+                .getResultList();
+        for (Object[] row : rows) {
+            counts.put((Request.RequestStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // Statut actuel de chaque demande trouvée, en une requête (ids absents = inexistants)
+    public Map<Long, Request.RequestStatus> findStatusesByIds(Collection<Long> ids) {
+        Map<Long, Request.RequestStatus> statuses = new HashMap<>();
+        List<Object[]> rows = getEntityManager()
+                .createQuery("select id, status from Request where id in :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList();
+        for (Object[] row : rows) {
+            statuses.put((Long) row[0], (Request.RequestStatus) row[1]);
+        }
+        return statuses;
+    }
+
+    // Mise à jour en masse, en une seule instruction.
+    // Ne déclenche pas les listeners JPA : l'appelant répercute lui-même les transitions.
+    public int updateStatus(Collection<Long> ids, Request.RequestStatus status) {
+        return update("status = ?1 where id in ?2", status, ids);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tuteurldom.repository;
+
+import com.tuteurldom.entity.Review;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ApplicationScoped
+@Measured
+@JdbcPermit
+public class ReviewRepository implements PanacheRepository<Review> {
+
+    public List<Review> findByTeacherId(Long teacherId) {
+        return list("teacher.id", Sort.descending("id"), teacherId);
+    }
+
+    // Avis d'un enseignant du plus récent au plus ancien, à partir de l'id beforeId exclu.
+    // On lit limit + 1 lignes pour savoir s'il existe une page suivante.
+    public List<Review> findPageByTeacherId(Long teacherId, Long beforeId, int limit) {
+        String query = "teacher.id = :teacherId";
+        Parameters params = Parameters.with("teacherId", teacherId);
+
+        if (beforeId != null) {
+            query += " and id < :beforeId";
+            params.and("beforeId", beforeId);
+        }
+
+        return find(query, Sort.descending("id"), params)
+                .range(0, limit)
+                .list();
+    }
+
+    // Somme et nombre des notes par enseignant ([somme, nombre]) en une seule requête groupée
+    public Map<Long, long[]> aggregateByTeacher() {
+        Map<Long, long[]> aggregates = new HashMap<>();
+        List<Object[]> rows = getEntityManager()
+                .createQuery("select r.teacher.id, sum(r.rating), count(r) from Review r "
+                        + "group by r.teacher.id", Object[].class)
+                .getResultList();
+
+        for (Object[] row : rows) {
+            aggregates.put((Long) row[0], new long[] {((Number) row[1]).longValue(), (Long) row[2]});
+        }
+        return aggregates;
+    }
+}
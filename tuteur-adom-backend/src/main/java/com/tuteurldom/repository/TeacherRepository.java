@@ -1,25 +1,144 @@
 package com.tuteurldom.repository;
 
+import com.tuteurldom.dto.TeacherCursor;
 import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
+import com.tuteurldom.service.SecondLevelCacheEviction;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.query.NativeQuery;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
+@Measured
+@JdbcPermit
 public class TeacherRepository implements PanacheRepository<Teacher> {
 
-    public List<Teacher> findWithFilters(String subject, BigDecimal minRate, BigDecimal maxRate, 
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @Inject
+    SecondLevelCacheEviction cacheEviction;
+
+    // Les filtres texte (matière, compétences...) passent par TeacherSearchIndex
+    public List<Teacher> findWithFilters(BigDecimal minRate, BigDecimal maxRate, 
                                        Teacher.TeachingLocation location) {
-        StringBuilder query = new StringBuilder("status = :status");
-        Parameters params = Parameters.with("status", Teacher.TeacherStatus.ACTIVE);
+        StringBuilder query = new StringBuilder();
+        Parameters params = buildFilters(query, minRate, maxRate, location);
+
+        return listSummaries(find(query.toString(), params));
+    }
+
+    // Pagination par curseur (keyset) triée par (rating desc, id asc) :
+    // chaque page part du dernier élément de la page précédente au lieu d'un OFFSET,
+    // ce qui permet à l'index (status, rating, id) de servir toutes les pages au même coût.
+    // On lit limit + 1 lignes pour savoir s'il existe une page suivante.
+    public List<Teacher> findPageWithFilters(BigDecimal minRate, BigDecimal maxRate,
+                                           Teacher.TeachingLocation location,
+                                           TeacherCursor after, int limit) {
+        StringBuilder query = new StringBuilder();
+        Parameters params = buildFilters(query, minRate, maxRate, location);
+
+        if (after != null) {
+            query.append(" and (rating < :afterRating or (rating = :afterRating and id > :afterId))");
+            params.and("afterRating", after.rating);
+            params.and("afterId", after.id);
+        }
+
+        // 1) les ids de la page, sur l'index ; 2) les enseignants et leurs lieux en une requête.
+        // Joindre la collection directement dans la requête paginée forcerait Hibernate
+        // à paginer en mémoire.
+        TypedQuery<Long> idQuery = getEntityManager().createQuery(
+                "select id from Teacher where " + query + " order by rating desc, id asc", Long.class);
+        for (Map.Entry<String, Object> param : params.map().entrySet()) {
+            idQuery.setParameter(param.getKey(), param.getValue());
+        }
+        List<Long> ids = idQuery.setMaxResults(limit + 1).getResultList();
+
+        return findSummariesByIds(ids);
+    }
 
-        if (subject != null && !subject.trim().isEmpty()) {
-            query.append(" and lower(subject) like lower(:subject)");
-            params.and("subject", "%" + subject + "%");
+    public List<Teacher> findByStatus(Teacher.TeacherStatus status) {
+        return listSummaries(find("status", status));
+    }
+
+    public List<Teacher> listAllSummaries() {
+        return listSummaries(findAll());
+    }
+
+    // Parcours de tous les enseignants par lots ordonnés par id (construction d'index en mémoire).
+    // Comme findPageWithFilters : les ids du lot d'abord (limit en base), puis les enseignants et
+    // leurs lieux ; paginer la jointure de collection obligerait Hibernate à tout lire en mémoire.
+    public List<Teacher> findSummaryBatchAfter(long afterId, int size) {
+        List<Long> ids = getEntityManager()
+                .createQuery("select id from Teacher where id > :afterId order by id", Long.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(size)
+                .getResultList();
+        return findSummariesByIds(ids);
+    }
+
+    // Même parcours restreint aux enseignants classables (actifs, assez d'avis) : le classement
+    // ne lit pas les autres
+    public List<Teacher> findRankableBatchAfter(long afterId, long minReviews, int size) {
+        List<Long> ids = getEntityManager()
+                .createQuery("select id from Teacher where id > :afterId and status = :status "
+                        + "and ratingCount >= :minReviews order by id", Long.class)
+                .setParameter("afterId", afterId)
+                .setParameter("status", Teacher.TeacherStatus.ACTIVE)
+                .setParameter("minReviews", minReviews)
+                .setMaxResults(size)
+                .getResultList();
+        return findSummariesByIds(ids);
+    }
+
+    // Enseignants avec leurs lieux d'enseignement, dans l'ordre des ids fournis
+    public List<Teacher> findSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
         }
 
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+
+        List<Teacher> teachers = listSummaries(find("id in ?1", ids));
+        teachers.sort(Comparator.comparing(teacher -> positions.get(teacher.id)));
+        return teachers;
+    }
+
+    // Enseignants cités dans les demandes ou les rendez-vous d'un parent, avec leurs lieux
+    public List<Teacher> findSummariesReferencedByParent(Long parentId) {
+        return listSummaries(find("id in (select r.teacher.id from Request r where r.parent.id = ?1) "
+                + "or id in (select a.teacher.id from Appointment a where a.parent.id = ?1)",
+                Sort.ascending("id"), parentId));
+    }
+
+    // Applique le plan de chargement des listes : lieux joints, avis non chargés
+    private List<Teacher> listSummaries(PanacheQuery<Teacher> query) {
+        return query
+                .withHint(FETCH_GRAPH_HINT, getEntityManager().getEntityGraph(Teacher.GRAPH_SUMMARY))
+                .list();
+    }
+
+    private Parameters buildFilters(StringBuilder query, BigDecimal minRate,
+                                    BigDecimal maxRate, Teacher.TeachingLocation location) {
+        query.append("status = :status");
+        Parameters params = Parameters.with("status", Teacher.TeacherStatus.ACTIVE);
+
         if (minRate != null) {
             query.append(" and hourlyRate >= :minRate");
             params.and("minRate", minRate);
@@ -35,10 +154,103 @@ public class TeacherRepository implements PanacheRepository<Teacher> {
             params.and("location", location);
         }
 
-        return list(query.toString(), params);
+        return params;
     }
 
-    public List<Teacher> findByStatus(Teacher.TeacherStatus status) {
-        return list("status", status);
+    // Nombre de lignes par statut en une seule requête groupée
+    public Map<Teacher.TeacherStatus, Long> countByStatus() {
+        Map<Teacher.TeacherStatus, Long> counts = new EnumMap<>(Teacher.TeacherStatus.class);
+        for (Teacher.TeacherStatus status : Teacher.TeacherStatus.values()) {
+            counts.put(status, 0L);
+        }
+
+        List<Object[]> rows = getEntityManager()
+                .createQuery("select status, count(*) from Teacher group by status", Object[].class)
+                .getResultList();
+        for (Object[] row : rows) {
+            counts.put((Teacher.TeacherStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // Statut actuel de chaque enseignant trouvé, en une requête (ids absents = inexistants)
+    public Map<Long, Teacher.TeacherStatus> findStatusesByIds(Collection<Long> ids) {
+        Map<Long, Teacher.TeacherStatus> statuses = new HashMap<>();
+        List<Object[]> rows = getEntityManager()
+                .createQuery("select id, status from Teacher where id in :ids", Object[].class)
+                .setParameter("ids", ids)
+                .getResultList();
+        for (Object[] row : rows) {
+            statuses.put((Long) row[0], (Teacher.TeacherStatus) row[1]);
+        }
+        return statuses;
+    }
+
+    // Mise à jour en masse, en une seule instruction. Le statut vit dans la table teachers :
+    // une requête JPQL sur l'entité (héritage JOINED) passerait par une table temporaire.
+    // Ne déclenche pas les listeners JPA : l'appelant répercute lui-même les transitions.
+    public int updateStatus(Collection<Long> ids, Teacher.TeacherStatus status) {
+        int updated = getEntityManager()
+                .createNativeQuery("update teachers set status = :status where id in :ids")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(SecondLevelCacheEviction.NO_ENTITY)
+                .setParameter("status", status.name())
+                .setParameter("ids", ids)
+                .executeUpdate();
+        cacheEviction.evict(Teacher.class, ids);
+        return updated;
+    }
+
+    // Ajoute (ou retire, avec des deltas négatifs) une note en une seule instruction atomique,
+    // sans charger les avis. La moyenne est calculée à partir des anciennes valeurs et du delta :
+    // le résultat est le même que les affectations soient évaluées de gauche à droite (MySQL)
+    // ou toutes sur l'ancienne ligne (SQL standard).
+    public int addRating(Long teacherId, int ratingDelta, int countDelta) {
+        int updated = getEntityManager()
+                .createNativeQuery("update teachers set "
+                        + "rating = case when rating_count + :countDelta > 0 "
+                        + "then round((rating_sum + :ratingDelta) * 1.0 / (rating_count + :countDelta), 2) else 0 end, "
+                        + "rating_sum = rating_sum + :ratingDelta, "
+                        + "rating_count = rating_count + :countDelta "
+                        + "where id = :id")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(SecondLevelCacheEviction.NO_ENTITY)
+                .setParameter("ratingDelta", ratingDelta)
+                .setParameter("countDelta", countDelta)
+                .setParameter("id", teacherId)
+                .executeUpdate();
+        cacheEviction.evict(Teacher.class, List.of(teacherId));
+        return updated;
+    }
+
+    // (id, ratingSum, ratingCount) de tous les enseignants, pour la détection des écarts
+    public List<Object[]> findRatingAggregates() {
+        return getEntityManager()
+                .createQuery("select id, ratingSum, ratingCount from Teacher", Object[].class)
+                .getResultList();
+    }
+
+    // Recalcule les agrégats à partir des avis, dans la même instruction que leur lecture,
+    // pour ne pas perdre un avis écrit entre la détection de l'écart et la correction
+    public int recomputeRatings(Collection<Long> ids) {
+        int updated = getEntityManager()
+                .createNativeQuery("update teachers t set "
+                        + "rating_sum = (select coalesce(sum(r.rating), 0) from reviews r where r.teacher_id = t.id), "
+                        + "rating_count = (select count(*) from reviews r where r.teacher_id = t.id) "
+                        + "where t.id in :ids")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(SecondLevelCacheEviction.NO_ENTITY)
+                .setParameter("ids", ids)
+                .executeUpdate();
+
+        getEntityManager()
+                .createNativeQuery("update teachers set rating = case when rating_count = 0 then 0 "
+                        + "else round(rating_sum * 1.0 / rating_count, 2) end where id in :ids")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(SecondLevelCacheEviction.NO_ENTITY)
+                .setParameter("ids", ids)
+                .executeUpdate();
+        cacheEviction.evict(Teacher.class, ids);
+        return updated;
     }
-} 
\ No newline at end of file
+}
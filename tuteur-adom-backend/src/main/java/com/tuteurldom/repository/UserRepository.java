@@ -1,22 +1,86 @@
 package com.tuteurldom.repository;
 
+import com.tuteurldom.entity.Teacher;
 import com.tuteurldom.entity.User;
+import com.tuteurldom.service.JdbcPermit;
+import com.tuteurldom.service.Measured;
+import com.tuteurldom.service.SecondLevelCacheEviction;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.query.NativeQuery;
 
 @ApplicationScoped
+@Measured
+@JdbcPermit
 public class UserRepository implements PanacheRepository<User> {
 
+    @Inject
+    SecondLevelCacheEviction cacheEviction;
+
+    // Ce qu'il faut pour authentifier, lu dans la seule table users (ni entité, ni sous-classes)
+    public static class Credentials {
+        public final Long id;
+        public final String password;
+        public final User.UserRole role;
+
+        public Credentials(Long id, String password, User.UserRole role) {
+            this.id = id;
+            this.password = password;
+            this.role = role;
+        }
+    }
+
     public Optional<User> findByEmail(String email) {
         return find("email", email).firstResultOptional();
     }
 
+    public Optional<Credentials> findCredentialsByEmail(String email) {
+        return getEntityManager()
+                .createQuery("select id, password, role from User where email = :email", Object[].class)
+                .setParameter("email", email)
+                .setMaxResults(1)
+                .getResultStream()
+                .findFirst()
+                .map(row -> new Credentials((Long) row[0], (String) row[1], (User.UserRole) row[2]));
+    }
+
+    // S'arrête à la première ligne trouvée (limit 1) au lieu de compter
     public boolean existsByEmail(String email) {
-        return find("email", email).count() > 0;
+        return !getEntityManager()
+                .createQuery("select id from User where email = :email", Long.class)
+                .setParameter("email", email)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
     }
 
     public Optional<User> findByEmailAndRole(String email, User.UserRole role) {
         return find("email = ?1 and role = ?2", email, role).firstResultOptional();
     }
-} 
\ No newline at end of file
+
+    // Parcours des emails par lots ordonnés par id (construction du filtre de Bloom)
+    public List<Object[]> findEmailBatchAfter(long afterId, int size) {
+        return getEntityManager()
+                .createQuery("select id, email from User where id > :afterId order by id", Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    // Mise à jour ciblée de la table users, sans charger l'entité. Seuls les enseignants sont en
+    // cache de second niveau (région de la racine User) : l'éviction passe par Teacher.
+    public int updatePassword(Long id, String password) {
+        int updated = getEntityManager()
+                .createNativeQuery("update users set password = :password where id = :id")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(SecondLevelCacheEviction.NO_ENTITY)
+                .setParameter("password", password)
+                .setParameter("id", id)
+                .executeUpdate();
+        cacheEviction.evict(Teacher.class, List.of(id));
+        return updated;
+    }
+}
@@ -1,12 +1,19 @@
 package com.tuteurldom.resource;
 
-import com.tuteurldom.entity.*;
-import com.tuteurldom.repository.*;
+import com.tuteurldom.service.PasswordHasher;
+import com.tuteurldom.service.RegisteredEmailFilter;
+import com.tuteurldom.service.SecondLevelCacheStats;
+import com.tuteurldom.service.StaticFileCache;
+import com.tuteurldom.service.StatsService;
+import com.tuteurldom.service.TeacherLeaderboard;
+import com.tuteurldom.service.TeacherProfileCache;
+import com.tuteurldom.service.TeacherSearchIndex;
+import com.tuteurldom.service.ThumbnailGenerator;
+import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import java.util.HashMap;
 import java.util.Map;
 
 @Path("/api/admin/stats")
@@ -15,68 +22,72 @@ import java.util.Map;
 public class AdminStatsResource {
 
     @Inject
-    TeacherRepository teacherRepository;
+    StatsService statsService;
 
     @Inject
-    UserRepository userRepository;
+    TeacherProfileCache profileCache;
 
     @Inject
-    RequestRepository requestRepository;
+    TeacherSearchIndex searchIndex;
 
     @Inject
-    AppointmentRepository appointmentRepository;
+    TeacherLeaderboard leaderboard;
 
-    @GET
-    public Response getGlobalStats() {
-        Map<String, Object> stats = new HashMap<>();
-
-        // Statistiques des enseignants
-        long activeTeachers = teacherRepository.count("status", Teacher.TeacherStatus.ACTIVE);
-        long pendingTeachers = teacherRepository.count("status", Teacher.TeacherStatus.PENDING);
-        long suspendedTeachers = teacherRepository.count("status", Teacher.TeacherStatus.SUSPENDED);
+    @Inject
+    StaticFileCache fileCache;
 
-        // Statistiques des parents (utilisateurs avec le rôle PARENT)
-        long totalParents = userRepository.count("role", User.UserRole.PARENT);
+    @Inject
+    ThumbnailGenerator thumbnails;
 
-        // Statistiques des demandes
-        long pendingRequests = requestRepository.count("status", Request.RequestStatus.PENDING);
-        long approvedRequests = requestRepository.count("status", Request.RequestStatus.APPROVED);
-        long rejectedRequests = requestRepository.count("status", Request.RequestStatus.REJECTED);
+    @Inject
+    SecondLevelCacheStats secondLevelCache;
 
-        // Statistiques des rendez-vous
-        long scheduledAppointments = appointmentRepository.count("status", Appointment.AppointmentStatus.SCHEDULED);
-        long completedAppointments = appointmentRepository.count("status", Appointment.AppointmentStatus.COMPLETED);
-        long cancelledAppointments = appointmentRepository.count("status", Appointment.AppointmentStatus.CANCELLED);
+    @Inject
+    PasswordHasher passwordHasher;
 
-        // Enseignants
-        stats.put("teachers", Map.of(
-            "active", activeTeachers,
-            "pending", pendingTeachers,
-            "suspended", suspendedTeachers,
-            "total", activeTeachers + pendingTeachers + suspendedTeachers
-        ));
+    @Inject
+    RegisteredEmailFilter emailFilter;
 
-        // Parents
-        stats.put("parents", Map.of(
-            "total", totalParents
-        ));
+    // Servi depuis les compteurs en mémoire : aucune requête SQL par appel
+    @GET
+    public Response getGlobalStats() {
+        Map<String, Object> stats = statsService.snapshot();
+        return Response.ok(stats).build();
+    }
 
-        // Demandes
-        stats.put("requests", Map.of(
-            "pending", pendingRequests,
-            "approved", approvedRequests,
-            "rejected", rejectedRequests,
-            "total", pendingRequests + approvedRequests + rejectedRequests
-        ));
+    // Force un recalage des compteurs sur la base (requêtes groupées par statut)
+    @POST
+    @Path("/reconcile")
+    @RolesAllowed("ADMIN")
+    public Response reconcile() {
+        statsService.reconcile();
+        return Response.ok(statsService.snapshot()).build();
+    }
 
-        // Rendez-vous
-        stats.put("appointments", Map.of(
-            "scheduled", scheduledAppointments,
-            "completed", completedAppointments,
-            "cancelled", cancelledAppointments,
-            "total", scheduledAppointments + completedAppointments + cancelledAppointments
-        ));
+    // Taux de succès des caches (profils enseignants, fichiers statiques, second niveau Hibernate),
+    // taille de l'index de recherche et du classement
+    @GET
+    @Path("/cache")
+    @RolesAllowed("ADMIN")
+    public Response getCacheStats() {
+        return Response.ok(Map.of(
+                "teacherProfiles", profileCache.stats(),
+                "teacherSearchIndex", searchIndex.stats(),
+                "teacherLeaderboard", leaderboard.stats(),
+                "staticFiles", fileCache.stats(),
+                "thumbnails", thumbnails.stats(),
+                "secondLevel", secondLevelCache.stats()
+        )).build();
+    }
 
-        return Response.ok(stats).build();
+    // Occupation du pool de hachage des mots de passe et efficacité du filtre des emails inscrits
+    @GET
+    @Path("/passwords")
+    @RolesAllowed("ADMIN")
+    public Response getPasswordHashingStats() {
+        return Response.ok(Map.of(
+                "hashing", passwordHasher.stats(),
+                "registeredEmailFilter", emailFilter.stats()
+        )).build();
     }
-} 
\ No newline at end of file
+}
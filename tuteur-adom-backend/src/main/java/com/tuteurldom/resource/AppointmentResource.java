@@ -1,9 +1,18 @@
 package com.tuteurldom.resource;
 
 import com.tuteurldom.dto.AppointmentDto;
+import com.tuteurldom.dto.BulkStatusRequest;
+import com.tuteurldom.dto.BulkStatusResultDto;
 import com.tuteurldom.entity.*;
 import com.tuteurldom.repository.*;
+import com.tuteurldom.service.StatsService;
+import com.tuteurldom.service.StreamingExport;
+import com.tuteurldom.service.TeacherAvailabilityIndex;
+import com.tuteurldom.service.TeacherScheduleIndex;
+import io.quarkus.panache.common.Sort;
+import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
@@ -11,8 +20,11 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Path("/api/appointments")
@@ -26,6 +38,21 @@ public class AppointmentResource {
     @Inject
     RequestRepository requestRepository;
 
+    @Inject
+    TeacherRepository teacherRepository;
+
+    @Inject
+    TeacherScheduleIndex scheduleIndex;
+
+    @Inject
+    TeacherAvailabilityIndex availabilityIndex;
+
+    @Inject
+    StatsService statsService;
+
+    @Inject
+    StreamingExport streamingExport;
+
     @POST
     @Transactional
     public Response createAppointment(@Valid CreateAppointmentRequest request) {
@@ -54,17 +81,45 @@ public class AppointmentResource {
                     .build();
         }
 
+        LocalDate date;
+        LocalTime startTime;
+        LocalTime endTime;
+        try {
+            date = LocalDate.parse(request.date);
+            startTime = LocalTime.parse(request.startTime);
+            endTime = LocalTime.parse(request.endTime);
+        } catch (DateTimeParseException | NullPointerException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Date ou horaires invalides")
+                    .build();
+        }
+
+        if (!endTime.isAfter(startTime)) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("L'heure de fin doit être postérieure à l'heure de début")
+                    .build();
+        }
+
+        TeacherScheduleIndex.Booking booking = reserveSlot(requestEntity.teacher.id, date, startTime, endTime, null);
+        if (booking == null) {
+            return Response.status(Response.Status.CONFLICT)
+                    .entity("Ce créneau chevauche un rendez-vous déjà programmé pour cet enseignant")
+                    .build();
+        }
+
         Appointment appointment = new Appointment(
                 requestEntity,
                 requestEntity.parent,
                 requestEntity.teacher,
-                LocalDate.parse(request.date),
-                LocalTime.parse(request.startTime),
-                LocalTime.parse(request.endTime),
+                date,
+                startTime,
+                endTime,
                 location
         );
 
         appointment.persist();
+        scheduleIndex.confirm(booking, appointment.id);
+        availabilityIndex.booked(appointment);
 
         AppointmentDto appointmentDto = new AppointmentDto(appointment);
         return Response.status(Response.Status.CREATED).entity(appointmentDto).build();
@@ -107,17 +162,132 @@ public class AppointmentResource {
 
         Appointment appointment = appointmentOpt.get();
         
+        Appointment.AppointmentStatus newStatus;
         try {
-            appointment.status = Appointment.AppointmentStatus.valueOf(request.status.toUpperCase());
-            appointment.persist();
-            
-            AppointmentDto appointmentDto = new AppointmentDto(appointment);
-            return Response.ok(appointmentDto).build();
+            newStatus = Appointment.AppointmentStatus.valueOf(request.status.toUpperCase());
         } catch (IllegalArgumentException e) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity("Statut invalide")
                     .build();
         }
+
+        boolean wasScheduled = appointment.status == Appointment.AppointmentStatus.SCHEDULED;
+        boolean isScheduled = newStatus == Appointment.AppointmentStatus.SCHEDULED;
+
+        if (wasScheduled && !isScheduled) {
+            scheduleIndex.release(appointment);
+            availabilityIndex.released(appointment);
+        } else if (!wasScheduled && isScheduled) {
+            TeacherScheduleIndex.Booking booking = reserveSlot(appointment.teacher.id, appointment.date,
+                    appointment.startTime, appointment.endTime, appointment.id);
+            if (booking == null) {
+                return Response.status(Response.Status.CONFLICT)
+                        .entity("Ce créneau chevauche un rendez-vous déjà programmé pour cet enseignant")
+                        .build();
+            }
+            scheduleIndex.confirm(booking, appointment.id);
+            availabilityIndex.booked(appointment);
+        }
+
+        appointment.status = newStatus;
+        appointment.persist();
+        
+        AppointmentDto appointmentDto = new AppointmentDto(appointment);
+        return Response.ok(appointmentDto).build();
+    }
+
+    // Clôture ou annulation d'un lot de rendez-vous en une seule mise à jour.
+    // Le retour à SCHEDULED impose un contrôle de chevauchement par créneau : il reste unitaire.
+    @PUT
+    @Path("/bulk/status")
+    @Transactional
+    @RolesAllowed("ADMIN")
+    public Response updateAppointmentStatuses(BulkStatusRequest request) {
+        if (request == null || !request.hasValidIds()) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Liste d'ids obligatoire (" + BulkStatusRequest.MAX_IDS + " au maximum)")
+                    .build();
+        }
+
+        Appointment.AppointmentStatus newStatus;
+        try {
+            newStatus = Appointment.AppointmentStatus.valueOf(request.status.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Statut invalide")
+                    .build();
+        }
+
+        if (newStatus == Appointment.AppointmentStatus.SCHEDULED) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("La reprogrammation se fait rendez-vous par rendez-vous (PUT /{id}/status)")
+                    .build();
+        }
+
+        Set<Long> ids = request.distinctIds();
+        Map<Long, Appointment.AppointmentStatus> previous = appointmentRepository.findStatusesByIds(ids);
+        List<Long> changed = previous.entrySet().stream()
+                .filter(entry -> entry.getValue() != newStatus)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        if (!changed.isEmpty()) {
+            // Créneaux à libérer dans les index de planning, lus avant la mise à jour
+            List<Appointment> released = previous.containsValue(Appointment.AppointmentStatus.SCHEDULED)
+                    ? appointmentRepository.findScheduledByIds(changed)
+                    : List.of();
+
+            appointmentRepository.updateStatus(changed, newStatus);
+            statsService.recordTransitions(StatsService.Section.APPOINTMENTS, previous.values(), newStatus);
+            for (Appointment appointment : released) {
+                scheduleIndex.release(appointment);
+                availabilityIndex.released(appointment);
+            }
+        }
+
+        return Response.ok(BulkStatusResultDto.of(ids, previous, newStatus)).build();
+    }
+
+    @GET
+    @Path("/teacher/{teacherId}/free-slots")
+    public Response getFreeSlots(@PathParam("teacherId") Long teacherId, @QueryParam("week") String week) {
+        LocalDate weekDate;
+        try {
+            weekDate = week != null ? LocalDate.parse(week) : LocalDate.now();
+        } catch (DateTimeParseException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Date de semaine invalide (format attendu : AAAA-MM-JJ)")
+                    .build();
+        }
+        if (TeacherScheduleIndex.weekStart(weekDate).plusDays(6).isBefore(LocalDate.now())) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Semaine passée : aucun créneau disponible")
+                    .build();
+        }
+        // Pas de planning chargé pour un enseignant inconnu
+        if (teacherRepository.findByIdOptional(teacherId).isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Enseignant non trouvé")
+                    .build();
+        }
+
+        return Response.ok(scheduleIndex.freeSlots(teacherId, weekDate)).build();
+    }
+
+    // Export complet des rendez-vous en flux (format=ndjson par défaut, ou csv), à mémoire constante
+    @GET
+    @Path("/export")
+    @RolesAllowed("ADMIN")
+    public Response exportAppointments(@QueryParam("format") String format) {
+        StreamingExport.Format exportFormat = StreamingExport.Format.parse(format);
+        if (exportFormat == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Format d'export invalide. Valeurs autorisées : ndjson, csv")
+                    .build();
+        }
+
+        return streamingExport.export(() -> appointmentRepository.findAll(Sort.ascending("id")),
+                AppointmentDto::new, AppointmentDto.class, exportFormat, "appointments");
     }
 
     @GET
@@ -130,6 +300,24 @@ public class AppointmentResource {
         return Response.ok(appointmentDtos).build();
     }
 
+    // Réserve le créneau dans le planning en mémoire (rejet rapide des conflits), puis le vérifie
+    // en base sous verrou de la ligne enseignant, ce qui sérialise aussi les réservations
+    // concurrentes entre plusieurs instances. Renvoie null en cas de chevauchement.
+    private TeacherScheduleIndex.Booking reserveSlot(Long teacherId, LocalDate date, LocalTime startTime,
+                                                     LocalTime endTime, Long appointmentId) {
+        TeacherScheduleIndex.Booking booking = scheduleIndex.reserve(teacherId, date, startTime, endTime);
+        if (booking == null) {
+            return null;
+        }
+
+        teacherRepository.findByIdOptional(teacherId, LockModeType.PESSIMISTIC_WRITE);
+        if (appointmentRepository.existsOverlap(teacherId, date, startTime, endTime, appointmentId)) {
+            scheduleIndex.cancel(teacherId, booking);
+            return null;
+        }
+        return booking;
+    }
+
     // DTOs pour les requêtes
     public static class CreateAppointmentRequest {
         public Long requestId;
@@ -3,15 +3,27 @@ package com.tuteurldom.resource;
 import com.tuteurldom.dto.*;
 import com.tuteurldom.entity.*;
 import com.tuteurldom.repository.UserRepository;
+import com.tuteurldom.service.PasswordHasher;
+import com.tuteurldom.service.RegisteredEmailFilter;
+import com.tuteurldom.service.TeacherSearchIndex;
+import com.tuteurldom.service.TokenService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.security.Authenticated;
+import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.hibernate.exception.ConstraintViolationException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import com.tuteurldom.dto.ParentDto;
 
@@ -23,44 +35,84 @@ public class AuthResource {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    TeacherSearchIndex searchIndex;
+
+    @Inject
+    TokenService tokenService;
+
+    @Inject
+    PasswordHasher passwordHasher;
+
+    @Inject
+    RegisteredEmailFilter emailFilter;
+
+    @Inject
+    JsonWebToken jwt;
+
+    // Pas de @Transactional : aucune connexion JDBC n'est tenue pendant la vérification bcrypt,
+    // qui passe par le pool borné de PasswordHasher
     @POST
     @Path("/login")
-    @Transactional
     public Response login(@Valid LoginRequest request) {
-        Optional<User> userOpt = userRepository.findByEmail(request.email);
+        // Projection (id, mot de passe, rôle) : l'entité complète n'est chargée qu'en cas de succès
+        Optional<UserRepository.Credentials> credentialsOpt = QuarkusTransaction.requiringNew()
+                .call(() -> userRepository.findCredentialsByEmail(request.email));
         
-        if (userOpt.isEmpty()) {
+        if (credentialsOpt.isEmpty()) {
+            // Email inconnu : un bcrypt comme pour un compte existant, sans quoi la réponse rapide
+            // permettrait d'énumérer les emails inscrits
+            try {
+                passwordHasher.verifyUnknown(request.password);
+            } catch (PasswordHasher.OverloadedException e) {
+                return overloaded();
+            }
             return Response.status(Response.Status.UNAUTHORIZED)
                     .entity("Email ou mot de passe incorrect")
                     .build();
         }
         
-        User user = userOpt.get();
-        
-        // Dans un vrai projet, on utiliserait un hashage sécurisé
-        if (!user.password.equals(request.password)) {
-            return Response.status(Response.Status.UNAUTHORIZED)
-                    .entity("Email ou mot de passe incorrect")
-                    .build();
+        UserRepository.Credentials credentials = credentialsOpt.get();
+        String rehashed = null;
+        try {
+            if (!passwordHasher.verify(request.password, credentials.password)) {
+                return Response.status(Response.Status.UNAUTHORIZED)
+                        .entity("Email ou mot de passe incorrect")
+                        .build();
+            }
+            // Migration progressive : mot de passe en clair ou coût bcrypt modifié
+            if (passwordHasher.needsRehash(credentials.password)) {
+                rehashed = passwordHasher.hash(request.password);
+            }
+        } catch (PasswordHasher.OverloadedException e) {
+            return overloaded();
         }
 
-        // Générer un token JWT (simplifié pour la demo)
-        String token = "mock-jwt-token-" + user.id;
-        
-        Object userDto = createUserDto(user);  // ✅ CORRECTION: Changer de UserDto vers Object
-        AuthResponse response = new AuthResponse(userDto, token);
-        
-        return Response.ok(response).build();
+        String newPassword = rehashed;
+        return QuarkusTransaction.requiringNew().call(() -> {
+            if (newPassword != null) {
+                userRepository.updatePassword(credentials.id, newPassword);
+            }
+            User user = userRepository.findById(credentials.id);
+            Object userDto = createUserDto(user);  // ✅ CORRECTION: Changer de UserDto vers Object
+            return Response.ok(authResponse(user, userDto)).build();
+        });
     }
 
     @POST
     @Path("/register/teacher")
     @Transactional
     public Response registerTeacher(@Valid RegisterTeacherRequest request) {
-        if (userRepository.existsByEmail(request.email)) {
-            return Response.status(Response.Status.CONFLICT)
-                    .entity("Un utilisateur avec cet email existe déjà")
-                    .build();
+        // Haché avant toute requête : la connexion JDBC n'est prise qu'ensuite
+        String passwordHash;
+        try {
+            passwordHash = passwordHasher.hash(request.password);
+        } catch (PasswordHasher.OverloadedException e) {
+            return overloaded();
+        }
+
+        if (emailFilter.mightExist(request.email) && userRepository.existsByEmail(request.email)) {
+            return emailTaken();
         }
 
         // Convertir les locations string en enum
@@ -75,7 +127,7 @@ public class AuthResource {
 
         Teacher teacher = new Teacher(
                 request.email,
-                request.password,
+                passwordHash,
                 request.firstName,
                 request.lastName,
                 request.subject,
@@ -85,11 +137,13 @@ public class AuthResource {
                 request.bio
         );
 
-        teacher.persist();
+        if (!persistUser(teacher)) {
+            return emailTaken();
+        }
+        searchIndex.reindex(teacher.id);
 
-        String token = "mock-jwt-token-" + teacher.id;
         TeacherDto teacherDto = new TeacherDto(teacher);
-        AuthResponse response = new AuthResponse(teacherDto, token);
+        AuthResponse response = authResponse(teacher, teacherDto);
 
         return Response.status(Response.Status.CREATED).entity(response).build();
     }
@@ -98,20 +152,28 @@ public class AuthResource {
     @Path("/register/parent")
     @Transactional
     public Response registerParent(@Valid RegisterParentRequest request) {
-        if (userRepository.existsByEmail(request.email)) {
-            return Response.status(Response.Status.CONFLICT)
-                    .entity("Un utilisateur avec cet email existe déjà")
-                    .build();
+        // Haché avant toute requête : la connexion JDBC n'est prise qu'ensuite
+        String passwordHash;
+        try {
+            passwordHash = passwordHasher.hash(request.password);
+        } catch (PasswordHasher.OverloadedException e) {
+            return overloaded();
+        }
+
+        if (emailFilter.mightExist(request.email) && userRepository.existsByEmail(request.email)) {
+            return emailTaken();
         }
 
         Parent parent = new Parent(
                 request.email,
-                request.password,
+                passwordHash,
                 request.firstName,
                 request.lastName
         );
 
-        parent.persist();
+        if (!persistUser(parent)) {
+            return emailTaken();
+        }
 
         // Ajouter les enfants s'il y en a
         if (request.children != null) {
@@ -122,43 +184,116 @@ public class AuthResource {
             }
         }
 
-        String token = "mock-jwt-token-" + parent.id;
         ParentDto parentDto = new ParentDto(parent);
-        AuthResponse response = new AuthResponse(parentDto, token);
+        AuthResponse response = authResponse(parent, parentDto);
 
         return Response.status(Response.Status.CREATED).entity(response).build();
     }
 
+    // Réservé aux administrateurs ; le premier compte admin est créé par le jeu de données initial
     @POST
     @Path("/register/admin")
+    @RolesAllowed("ADMIN")
     @Transactional
     public Response registerAdmin(@Valid RegisterAdminRequest request) {
-        // Vérifier que la demande vient d'un admin authentifié
-        // (Dans un vrai projet, on vérifierait le token JWT)
-        
-        if (userRepository.existsByEmail(request.email)) {
-            return Response.status(Response.Status.CONFLICT)
-                    .entity("Un utilisateur avec cet email existe déjà")
-                    .build();
+        // Haché avant toute requête : la connexion JDBC n'est prise qu'ensuite
+        String passwordHash;
+        try {
+            passwordHash = passwordHasher.hash(request.password);
+        } catch (PasswordHasher.OverloadedException e) {
+            return overloaded();
+        }
+
+        if (emailFilter.mightExist(request.email) && userRepository.existsByEmail(request.email)) {
+            return emailTaken();
         }
 
         Admin admin = new Admin(
                 request.email,
-                request.password,
+                passwordHash,
                 request.firstName,
                 request.lastName,
                 request.position
         );
 
-        admin.persist();
+        if (!persistUser(admin)) {
+            return emailTaken();
+        }
 
-        String token = "mock-jwt-token-" + admin.id;
         UserDto adminDto = new UserDto(admin);
-        AuthResponse response = new AuthResponse(adminDto, token);
+        AuthResponse response = authResponse(admin, adminDto);
 
         return Response.status(Response.Status.CREATED).entity(response).build();
     }
 
+    // Nouveau couple de jetons à partir d'un jeton de rafraîchissement. L'utilisateur est relu
+    // en base : un changement de rôle ou de statut est pris en compte à ce moment-là.
+    @POST
+    @Path("/refresh")
+    @Transactional
+    public Response refresh(RefreshRequest request) {
+        Optional<User> userOpt = Optional.ofNullable(request)
+                .map(body -> body.refreshToken)
+                .flatMap(tokenService::verifyRefreshToken)
+                .flatMap(userRepository::findByIdOptional);
+
+        if (userOpt.isEmpty()) {
+            return Response.status(Response.Status.UNAUTHORIZED)
+                    .entity("Jeton de rafraîchissement invalide ou expiré")
+                    .build();
+        }
+
+        User user = userOpt.get();
+        return Response.ok(authResponse(user, createUserDto(user))).build();
+    }
+
+    // Identité de l'appelant, lue dans les claims du jeton (sans accès à la base)
+    @GET
+    @Path("/me")
+    @Authenticated
+    public Response me() {
+        Map<String, Object> identity = new LinkedHashMap<>();
+        identity.put("id", jwt.getSubject());
+        identity.put("email", jwt.getName());
+        identity.put("roles", jwt.getGroups());
+        identity.put(TokenService.TEACHER_STATUS_CLAIM, jwt.getClaim(TokenService.TEACHER_STATUS_CLAIM));
+        return Response.ok(identity).build();
+    }
+
+    // Insertion protégée par la contrainte d'unicité sur users.email : une inscription concurrente
+    // (ou faite sur une autre instance, absente du filtre local) échoue ici, la transaction est annulée
+    private boolean persistUser(User user) {
+        try {
+            user.persist();
+        } catch (PersistenceException e) {
+            if (e instanceof ConstraintViolationException || e.getCause() instanceof ConstraintViolationException) {
+                QuarkusTransaction.setRollbackOnly();
+                return false;
+            }
+            throw e;
+        }
+        emailFilter.add(user.email);
+        return true;
+    }
+
+    private Response emailTaken() {
+        return Response.status(Response.Status.CONFLICT)
+                .entity("Un utilisateur avec cet email existe déjà")
+                .build();
+    }
+
+    private Response overloaded() {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .entity("Trop de connexions simultanées, veuillez réessayer")
+                .build();
+    }
+
+    private AuthResponse authResponse(User user, Object userDto) {
+        TokenService.Tokens tokens = tokenService.issue(user);
+        return new AuthResponse(userDto, tokens.accessToken, tokens.refreshToken, tokens.expiresIn);
+    }
+
     private Object createUserDto(User user) {  // ✅ CORRECTION: Changer de UserDto vers Object
         if (user instanceof Teacher) {
             return new TeacherDto((Teacher) user);
@@ -198,6 +333,10 @@ public class AuthResource {
         public String position;
     }
 
+    public static class RefreshRequest {
+        public String refreshToken;
+    }
+
     public static class ChildInfo {
         public String name;
         public Integer age;
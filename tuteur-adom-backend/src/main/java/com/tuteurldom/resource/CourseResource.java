@@ -5,6 +5,8 @@ import com.tuteurldom.entity.Course;
 import com.tuteurldom.entity.Teacher;
 import com.tuteurldom.repository.CourseRepository;
 import com.tuteurldom.repository.TeacherRepository;
+import com.tuteurldom.service.TeacherProfileCache;
+import com.tuteurldom.service.TeacherSearchIndex;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -28,6 +30,12 @@ public class CourseResource {
     @Inject
     TeacherRepository teacherRepository;
 
+    @Inject
+    TeacherProfileCache profileCache;
+
+    @Inject
+    TeacherSearchIndex searchIndex;
+
     @GET
     @Path("/health")
     public Response healthCheck() {
@@ -78,6 +86,8 @@ public class CourseResource {
         );
 
         course.persist();
+        profileCache.invalidate(teacherId);
+        searchIndex.reindex(teacherId);
 
         CourseDto courseDto = new CourseDto(course);
         return Response.status(Response.Status.CREATED).entity(courseDto).build();
@@ -130,6 +140,8 @@ public class CourseResource {
         if (request.hourlyRate != null) course.hourlyRate = request.hourlyRate;
 
         course.persist();
+        profileCache.invalidate(course.teacher.id);
+        searchIndex.reindex(course.teacher.id);
 
         CourseDto courseDto = new CourseDto(course);
         return Response.ok(courseDto).build();
@@ -147,7 +159,11 @@ public class CourseResource {
                     .build();
         }
 
-        courseOpt.get().delete();
+        Course course = courseOpt.get();
+        Long teacherId = course.teacher.id;
+        course.delete();
+        profileCache.invalidate(teacherId);
+        searchIndex.reindex(teacherId);
         return Response.noContent().build();
     }
 
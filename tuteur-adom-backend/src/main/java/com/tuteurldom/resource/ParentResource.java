@@ -1,11 +1,16 @@
 package com.tuteurldom.resource;
 
+import com.tuteurldom.dto.ParentDashboardDto;
 import com.tuteurldom.dto.ParentDto;
 import com.tuteurldom.repository.ParentRepository;
+import com.tuteurldom.service.ParentDashboard;
+import com.tuteurldom.service.TokenService;
+import io.quarkus.security.Authenticated;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,6 +22,12 @@ public class ParentResource {
     @Inject
     ParentRepository parentRepository;
 
+    @Inject
+    ParentDashboard dashboard;
+
+    @Inject
+    JsonWebToken jwt;
+
     @GET
     public Response getAllParents() {
         try {
@@ -33,6 +44,38 @@ public class ParentResource {
         }
     }
 
+    // Écran d'accueil du parent en un appel (au lieu des demandes, rendez-vous et profils
+    // enseignants demandés un par un) : quatre requêtes fixes, exécutées en parallèle
+    @GET
+    @Path("/{id}/dashboard")
+    @Authenticated
+    public Response getDashboard(@PathParam("id") Long parentId) {
+        // Le parent lui-même ou un administrateur, d'après les seuls claims du jeton
+        boolean isOwner = TokenService.userId(jwt).map(parentId::equals).orElse(false);
+        if (!isOwner && !jwt.getGroups().contains("ADMIN")) {
+            return Response.status(Response.Status.FORBIDDEN)
+                    .entity("Seul le parent concerné peut consulter son tableau de bord")
+                    .build();
+        }
+
+        ParentDashboardDto result;
+        try {
+            result = dashboard.load(parentId);
+        } catch (ParentDashboard.UnavailableException e) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .entity("Tableau de bord indisponible, veuillez réessayer")
+                    .build();
+        }
+
+        if (result == null) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Parent non trouvé")
+                    .build();
+        }
+        return Response.ok(result).build();
+    }
+
     @PUT
     @Path("/{id}/status")
     public Response updateParentStatus(@PathParam("id") Long parentId, StatusRequest request) {
@@ -0,0 +1,39 @@
+package com.tuteurldom.resource;
+
+import com.tuteurldom.service.RequestQueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Inject;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+
+// Nombre de requêtes SQL par requête HTTP, par endpoint (Classe.méthode) : tuteur.http.queries
+public class QueryMetricsFilter {
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    RequestQueryCounter counter;
+
+    private final ConcurrentMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    @ServerResponseFilter
+    public void recordQueries(SimpleResourceInfo resourceInfo) {
+        if (resourceInfo == null || resourceInfo.getResourceClass() == null) {
+            return;
+        }
+        String endpoint = resourceInfo.getResourceClass().getSimpleName() + "." + resourceInfo.getMethodName();
+        summaries.computeIfAbsent(endpoint, this::summary).record(counter.get());
+    }
+
+    private DistributionSummary summary(String endpoint) {
+        return DistributionSummary.builder("tuteur.http.queries")
+                .description("Instructions SQL exécutées par requête HTTP")
+                .tag("endpoint", endpoint)
+                .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50, 100)
+                .register(registry);
+    }
+}
@@ -1,8 +1,14 @@
 package com.tuteurldom.resource;
 
+import com.tuteurldom.dto.BulkStatusRequest;
+import com.tuteurldom.dto.BulkStatusResultDto;
 import com.tuteurldom.dto.RequestDto;
 import com.tuteurldom.entity.*;
 import com.tuteurldom.repository.*;
+import com.tuteurldom.service.StatsService;
+import com.tuteurldom.service.StreamingExport;
+import io.quarkus.panache.common.Sort;
+import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -10,7 +16,9 @@ import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Path("/api/requests")
@@ -27,6 +35,12 @@ public class RequestResource {
     @Inject
     CourseRepository courseRepository;
 
+    @Inject
+    StatsService statsService;
+
+    @Inject
+    StreamingExport streamingExport;
+
     @POST
     @Transactional
     public Response createRequest(@Valid CreateRequestRequest request) {
@@ -126,6 +140,58 @@ public class RequestResource {
         }
     }
 
+    // Traitement d'un lot de demandes en une seule mise à jour
+    @PUT
+    @Path("/bulk/status")
+    @Transactional
+    @RolesAllowed("ADMIN")
+    public Response updateRequestStatuses(BulkStatusRequest request) {
+        if (request == null || !request.hasValidIds()) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Liste d'ids obligatoire (" + BulkStatusRequest.MAX_IDS + " au maximum)")
+                    .build();
+        }
+
+        Request.RequestStatus newStatus;
+        try {
+            newStatus = Request.RequestStatus.valueOf(request.status.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Statut invalide")
+                    .build();
+        }
+
+        Set<Long> ids = request.distinctIds();
+        Map<Long, Request.RequestStatus> previous = requestRepository.findStatusesByIds(ids);
+        List<Long> changed = previous.entrySet().stream()
+                .filter(entry -> entry.getValue() != newStatus)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        if (!changed.isEmpty()) {
+            requestRepository.updateStatus(changed, newStatus);
+            statsService.recordTransitions(StatsService.Section.REQUESTS, previous.values(), newStatus);
+        }
+
+        return Response.ok(BulkStatusResultDto.of(ids, previous, newStatus)).build();
+    }
+
+    // Export complet des demandes en flux (format=ndjson par défaut, ou csv), à mémoire constante
+    @GET
+    @Path("/export")
+    @RolesAllowed("ADMIN")
+    public Response exportRequests(@QueryParam("format") String format) {
+        StreamingExport.Format exportFormat = StreamingExport.Format.parse(format);
+        if (exportFormat == null) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Format d'export invalide. Valeurs autorisées : ndjson, csv")
+                    .build();
+        }
+
+        return streamingExport.export(() -> requestRepository.findAll(Sort.ascending("id")),
+                RequestDto::new, RequestDto.class, exportFormat, "requests");
+    }
+
     @GET
     public Response getAllRequests() {
         List<Request> requests = requestRepository.listAll();
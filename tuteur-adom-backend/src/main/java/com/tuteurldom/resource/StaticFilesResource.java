@@ -1,50 +1,190 @@
 package com.tuteurldom.resource;
 
+import com.tuteurldom.service.ProfilePictureStore;
+import com.tuteurldom.service.StaticFileCache;
+import com.tuteurldom.service.ThumbnailGenerator;
+import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
-import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import org.jboss.resteasy.reactive.PathPart;
 
 @Path("/uploads")
 public class StaticFilesResource {
 
+    // Fichiers adressés par leur contenu : une URL donnée ne change jamais
+    private static final CacheControl IMMUTABLE = immutable();
+    // Original servi à la place d'une vignette indisponible : revalidé à chaque fois, pour que
+    // la vignette remplace l'original dès qu'elle existe
+    private static final CacheControl REVALIDATE = revalidate();
+
+    @Inject
+    ProfilePictureStore pictureStore;
+
+    @Inject
+    StaticFileCache fileCache;
+
+    @Inject
+    ThumbnailGenerator thumbnails;
+
+    // Petits fichiers servis depuis la mémoire, les autres par sendfile (Path / PathPart,
+    // écrits par Vert.x sans copie en espace utilisateur). GET conditionnel (304) et Range (206).
+    // ?size=64|128|512 : vignette carrée JPEG, générée à la demande si elle n'existe pas encore.
     @GET
     @Path("/profile-pictures/{filename}")
     @Produces("image/*")
-    public Response getProfilePicture(@PathParam("filename") String filename) {
-        try {
-            String filePath = "uploads/profile-pictures/" + filename;
-            File file = new File(filePath);
-            
-            if (!file.exists()) {
+    public Response getProfilePicture(@PathParam("filename") String filename,
+                                      @QueryParam("size") Integer size,
+                                      @Context Request request,
+                                      @HeaderParam("Range") String range,
+                                      @HeaderParam("If-Range") String ifRange) {
+        java.nio.file.Path path = pictureStore.resolve(filename);
+        if (path == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+
+        StaticFileCache.Entry file = null;
+        CacheControl cacheControl = IMMUTABLE;
+        if (size != null) {
+            if (!ThumbnailGenerator.SIZES.contains(size)) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity("Taille de vignette invalide. Valeurs autorisées : " + ThumbnailGenerator.SIZES)
+                        .build();
+            }
+            // Pas de vignette de vignette (ni d'un fichier quelconque) : le disque ne croît pas à la demande
+            if (!ProfilePictureStore.isOriginal(filename)) {
                 return Response.status(Response.Status.NOT_FOUND).build();
             }
-            
-            FileInputStream fileInputStream = new FileInputStream(file);
-            
-            // Déterminer le type MIME basé sur l'extension
-            String contentType = "image/jpeg"; // par défaut
-            if (filename.toLowerCase().endsWith(".png")) {
-                contentType = "image/png";
-            } else if (filename.toLowerCase().endsWith(".gif")) {
-                contentType = "image/gif";
-            } else if (filename.toLowerCase().endsWith(".webp")) {
-                contentType = "image/webp";
+            file = thumbnail(filename, path, size);
+            if (file == null) {
+                cacheControl = REVALIDATE;
             }
-            
-            return Response.ok(fileInputStream, contentType).build();
-            
-        } catch (FileNotFoundException e) {
+        }
+        if (file == null) {
+            // Pas de taille demandée, ou vignette indisponible (pool saturé, format non décodable)
+            file = fileCache.get(filename, path);
+        }
+        if (file == null) {
             return Response.status(Response.Status.NOT_FOUND).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity("Erreur lors de la lecture du fichier")
-                    .build();
+        }
+
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(file.lastModified, file.etag);
+        if (notModified != null) {
+            return notModified.tag(file.etag).cacheControl(cacheControl).build();
+        }
+
+        // If-Range : la plage ne vaut que pour la version identifiée, sinon on renvoie tout le fichier
+        long[] bounds = null;
+        if (range != null && (ifRange == null || ifRange.equals("\"" + file.etag.getValue() + "\""))) {
+            bounds = parseRange(range, file.size);
+            if (bounds != null && bounds.length == 0) {
+                return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header("Content-Range", "bytes */" + file.size)
+                        .build();
+            }
+        }
+
+        Response.ResponseBuilder builder;
+        if (bounds == null) {
+            // PathPart et non Path : le writer de Path appliquerait lui-même l'en-tête Range ignoré ici
+            builder = Response.ok(file.content != null ? file.content : new PathPart(file.path, 0, file.size));
+        } else {
+            long start = bounds[0];
+            long length = bounds[1] - bounds[0] + 1;
+            Object body = file.content != null
+                    ? Arrays.copyOfRange(file.content, (int) start, (int) (start + length))
+                    : new PathPart(file.path, start, length);
+            builder = Response.status(Response.Status.PARTIAL_CONTENT)
+                    .entity(body)
+                    .header("Content-Range", "bytes " + bounds[0] + "-" + bounds[1] + "/" + file.size);
+        }
+
+        return builder
+                .type(file.contentType)
+                .tag(file.etag)
+                .lastModified(file.lastModified)
+                .cacheControl(cacheControl)
+                .header("Accept-Ranges", "bytes")
+                .build();
+    }
+
+    private static CacheControl immutable() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        cacheControl.setMaxAge(31536000);
+        cacheControl.getCacheExtension().put("public", null);
+        cacheControl.getCacheExtension().put("immutable", null);
+        return cacheControl;
+    }
+
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoTransform(false);
+        cacheControl.setNoCache(true);
+        return cacheControl;
+    }
+
+    private StaticFileCache.Entry thumbnail(String filename, java.nio.file.Path original, int size) {
+        int dot = filename.lastIndexOf('.');
+        String hash = dot > 0 ? filename.substring(0, dot) : filename;
+        String variant = ThumbnailGenerator.variantFilename(hash, size);
+        java.nio.file.Path path = pictureStore.resolve(variant);
+        if (path == null) {
+            return null;
+        }
+
+        StaticFileCache.Entry file = fileCache.get(variant, path);
+        if (file == null && Files.exists(original) && thumbnails.generateNow(original, hash)) {
+            file = fileCache.get(variant, path);
+        }
+        return file;
+    }
+
+    // Une seule plage "bytes=debut-fin", "bytes=debut-" ou "bytes=-suffixe".
+    // null : en-tête ignoré (syntaxe inconnue ou invalide, plages multiples) ; tableau vide : plage hors du fichier
+    static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                // Fichier vide : aucune plage n'est satisfiable
+                if (suffix <= 0 || size == 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                if (start >= size) {
+                    return new long[0];
+                }
+                end = dash == spec.length() - 1 ? size - 1 : Long.parseLong(spec.substring(dash + 1));
+                // Fin avant le début : plage invalide, ignorée comme une syntaxe inconnue (RFC 9110)
+                if (end < start) {
+                    return null;
+                }
+            }
+            return new long[] {start, Math.min(end, size - 1)};
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,17 +1,55 @@
 package com.tuteurldom.resource;
 
+import com.tuteurldom.dto.AvailabilityDto;
+import com.tuteurldom.dto.BulkStatusRequest;
+import com.tuteurldom.dto.BulkStatusResultDto;
+import com.tuteurldom.dto.PageDto;
+import com.tuteurldom.dto.ReviewDto;
+import com.tuteurldom.dto.TeacherCursor;
 import com.tuteurldom.dto.TeacherDto;
+import com.tuteurldom.dto.TeacherSummaryDto;
+import com.tuteurldom.entity.Availability;
+import com.tuteurldom.entity.Parent;
+import com.tuteurldom.entity.Review;
 import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.repository.AvailabilityRepository;
+import com.tuteurldom.repository.ParentRepository;
+import com.tuteurldom.repository.ReviewRepository;
 import com.tuteurldom.repository.TeacherRepository;
+import com.tuteurldom.service.ProfilePictureStore;
+import com.tuteurldom.service.StatsService;
+import com.tuteurldom.service.TeacherAvailabilityIndex;
+import com.tuteurldom.service.TeacherLeaderboard;
+import com.tuteurldom.service.TeacherProfileCache;
+import com.tuteurldom.service.TeacherRatings;
+import com.tuteurldom.service.TeacherSearchIndex;
+import com.tuteurldom.service.TokenService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.security.Authenticated;
+import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.hibernate.exception.ConstraintViolationException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Path("/api/teachers")
@@ -19,14 +57,53 @@ import java.util.stream.Collectors;
 @Consumes(MediaType.APPLICATION_JSON)
 public class TeacherResource {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int DEFAULT_TOP_SIZE = 10;
+
     @Inject
     TeacherRepository teacherRepository;
 
+    @Inject
+    ReviewRepository reviewRepository;
+
+    @Inject
+    ProfilePictureStore pictureStore;
+
+    @Inject
+    StatsService statsService;
+
+    @Inject
+    TeacherProfileCache profileCache;
+
+    @Inject
+    TeacherSearchIndex searchIndex;
+
+    @Inject
+    TeacherLeaderboard leaderboard;
+
+    @Inject
+    AvailabilityRepository availabilityRepository;
+
+    @Inject
+    TeacherAvailabilityIndex availabilityIndex;
+
+    @Inject
+    ParentRepository parentRepository;
+
+    @Inject
+    TeacherRatings ratings;
+
+    @Inject
+    JsonWebToken jwt;
+
     @GET
     public Response getAllTeachers(@QueryParam("subject") String subject,
                                   @QueryParam("minHourlyRate") BigDecimal minRate,
                                   @QueryParam("maxHourlyRate") BigDecimal maxRate,
-                                  @QueryParam("location") String location) {
+                                  @QueryParam("location") String location,
+                                  @QueryParam("limit") Integer limit,
+                                  @QueryParam("cursor") String cursor) {
         
         Teacher.TeachingLocation teachingLocation = null;
         if (location != null) {
@@ -37,27 +114,316 @@ public class TeacherResource {
             }
         }
 
-        List<Teacher> teachers = teacherRepository.findWithFilters(subject, minRate, maxRate, teachingLocation);
-        List<TeacherDto> teacherDtos = teachers.stream()
-                .map(TeacherDto::new)
+        // Pagination par curseur si le client la demande, liste complète sinon (compatibilité)
+        if (limit != null || cursor != null) {
+            return getTeachersPage(subject, minRate, maxRate, teachingLocation, limit, cursor);
+        }
+
+        List<Teacher> teachers;
+        if (subject != null && !subject.isBlank()) {
+            // Recherche texte via l'index en mémoire, résultats par pertinence
+            List<Long> ids = searchIndex.search(subject,
+                    new TeacherSearchIndex.Filters(minRate, maxRate, teachingLocation), Integer.MAX_VALUE);
+            teachers = teacherRepository.findSummariesByIds(ids);
+        } else {
+            teachers = teacherRepository.findWithFilters(minRate, maxRate, teachingLocation);
+        }
+        return Response.ok(toSummaries(teachers)).build();
+    }
+
+    @GET
+    @Path("/search")
+    public Response searchTeachers(@QueryParam("q") String query,
+                                   @QueryParam("minHourlyRate") BigDecimal minRate,
+                                   @QueryParam("maxHourlyRate") BigDecimal maxRate,
+                                   @QueryParam("location") String location,
+                                   @QueryParam("limit") Integer limit) {
+        if (query == null || query.isBlank()) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Paramètre q obligatoire")
+                    .build();
+        }
+
+        Teacher.TeachingLocation teachingLocation = null;
+        if (location != null) {
+            try {
+                teachingLocation = Teacher.TeachingLocation.valueOf(location.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Location invalide, ignorer le filtre
+            }
+        }
+
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Long> ids = searchIndex.search(query,
+                new TeacherSearchIndex.Filters(minRate, maxRate, teachingLocation), size);
+
+        return Response.ok(toSummaries(teacherRepository.findSummariesByIds(ids))).build();
+    }
+
+    // Meilleurs enseignants actifs d'une matière (toutes matières sans subject), servis depuis
+    // le classement en mémoire : aucune requête SQL
+    @GET
+    @Path("/top")
+    public Response getTopTeachers(@QueryParam("subject") String subject,
+                                   @QueryParam("k") Integer k) {
+        int size = k == null ? DEFAULT_TOP_SIZE : Math.max(1, Math.min(k, leaderboard.maxK()));
+        return Response.ok(leaderboard.top(subject, size)).build();
+    }
+
+    private Response getTeachersPage(String subject, BigDecimal minRate, BigDecimal maxRate,
+                                     Teacher.TeachingLocation location, Integer limit, String cursor) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        TeacherCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = TeacherCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity("Curseur invalide")
+                        .build();
+            }
+        }
+
+        List<Teacher> teachers;
+        if (subject != null && !subject.isBlank()) {
+            List<Long> ids = searchIndex.searchByRating(subject,
+                    new TeacherSearchIndex.Filters(minRate, maxRate, location), after, pageSize + 1);
+            teachers = teacherRepository.findSummariesByIds(ids);
+        } else {
+            teachers = teacherRepository.findPageWithFilters(minRate, maxRate, location, after, pageSize);
+        }
+
+        String nextCursor = null;
+        if (teachers.size() > pageSize) {
+            teachers = teachers.subList(0, pageSize);
+            nextCursor = TeacherCursor.of(teachers.get(pageSize - 1)).encode();
+        }
+
+        return Response.ok(new PageDto<>(toSummaries(teachers), nextCursor, pageSize)).build();
+    }
+
+    // Enseignants libres sur un créneau donné (ex. mercredi 14:00-16:00), avec les filtres habituels
+    @GET
+    @Path("/available")
+    public Response getAvailableTeachers(@QueryParam("date") String date,
+                                         @QueryParam("start") String start,
+                                         @QueryParam("end") String end,
+                                         @QueryParam("subject") String subject,
+                                         @QueryParam("minHourlyRate") BigDecimal minRate,
+                                         @QueryParam("maxHourlyRate") BigDecimal maxRate,
+                                         @QueryParam("location") String location,
+                                         @QueryParam("limit") Integer limit) {
+        LocalDate day;
+        LocalTime startTime;
+        LocalTime endTime;
+        try {
+            day = LocalDate.parse(date);
+            startTime = LocalTime.parse(start);
+            endTime = LocalTime.parse(end);
+        } catch (DateTimeParseException | NullPointerException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Paramètres date, start et end obligatoires (AAAA-MM-JJ, HH:MM)")
+                    .build();
+        }
+
+        if (!endTime.isAfter(startTime)) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("L'heure de fin doit être postérieure à l'heure de début")
+                    .build();
+        }
+
+        Teacher.TeachingLocation teachingLocation = null;
+        if (location != null) {
+            try {
+                teachingLocation = Teacher.TeachingLocation.valueOf(location.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Location invalide, ignorer le filtre
+            }
+        }
+
+        TeacherSearchIndex.Filters filters = new TeacherSearchIndex.Filters(minRate, maxRate, teachingLocation);
+        List<Long> candidates = subject != null && !subject.isBlank()
+                ? searchIndex.search(subject, filters, Integer.MAX_VALUE)
+                : searchIndex.filter(filters);
+
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Long> ids = availabilityIndex.findAvailable(candidates, day, startTime, endTime, size);
+
+        return Response.ok(toSummaries(teacherRepository.findSummariesByIds(ids))).build();
+    }
+
+    @GET
+    @Path("/{id}/availability")
+    public Response getAvailability(@PathParam("id") Long id) {
+        List<AvailabilityDto> availabilities = availabilityRepository.findByTeacherId(id).stream()
+                .map(AvailabilityDto::new)
+                .collect(Collectors.toList());
+
+        return Response.ok(availabilities).build();
+    }
+
+    // Remplace l'ensemble des disponibilités hebdomadaires de l'enseignant
+    @POST
+    @Path("/{id}/availability")
+    @Transactional
+    @Authenticated
+    public Response setAvailability(@PathParam("id") Long id, List<AvailabilityRequest> request) {
+        // Autorisation sur les seuls claims du jeton : l'enseignant lui-même ou un administrateur
+        boolean isOwner = TokenService.userId(jwt).map(id::equals).orElse(false);
+        if (!isOwner && !jwt.getGroups().contains("ADMIN")) {
+            return Response.status(Response.Status.FORBIDDEN)
+                    .entity("Seul l'enseignant concerné peut modifier ses disponibilités")
+                    .build();
+        }
+
+        Optional<Teacher> teacherOpt = teacherRepository.findByIdOptional(id);
+        
+        if (teacherOpt.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Enseignant non trouvé")
+                    .build();
+        }
+
+        List<Availability> availabilities = new ArrayList<>();
+        for (AvailabilityRequest item : request) {
+            try {
+                LocalTime startTime = LocalTime.parse(item.startTime);
+                LocalTime endTime = LocalTime.parse(item.endTime);
+                if (item.dayOfWeek == null || item.dayOfWeek < 0 || item.dayOfWeek > 6 || !endTime.isAfter(startTime)) {
+                    throw new IllegalArgumentException();
+                }
+                availabilities.add(new Availability(teacherOpt.get(), item.dayOfWeek, startTime, endTime));
+            } catch (DateTimeParseException | IllegalArgumentException | NullPointerException e) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity("Disponibilité invalide : jour de 0 (dimanche) à 6, heure de fin après l'heure de début")
+                        .build();
+            }
+        }
+
+        availabilityRepository.deleteByTeacherId(id);
+        availabilityRepository.persist(availabilities);
+        availabilityIndex.replaceWeekly(id, availabilities);
+
+        List<AvailabilityDto> availabilityDtos = availabilities.stream()
+                .map(AvailabilityDto::new)
                 .collect(Collectors.toList());
 
-        return Response.ok(teacherDtos).build();
+        return Response.ok(availabilityDtos).build();
     }
 
     @GET
     @Path("/{id}")
     public Response getTeacherById(@PathParam("id") Long id) {
-        Optional<Teacher> teacherOpt = teacherRepository.findByIdOptional(id);
+        // Profil servi depuis le cache, déjà sérialisé en JSON
+        byte[] teacherJson = profileCache.get(id, teacherId -> teacherRepository.findByIdOptional(teacherId)
+                .map(TeacherDto::new)
+                .orElse(null));
         
+        if (teacherJson == null) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Enseignant non trouvé")
+                    .build();
+        }
+
+        return Response.ok(teacherJson, MediaType.APPLICATION_JSON).build();
+    }
+
+    @GET
+    @Path("/{id}/reviews")
+    public Response getTeacherReviews(@PathParam("id") Long id,
+                                      @QueryParam("limit") Integer limit,
+                                      @QueryParam("cursor") String cursor) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        Long beforeId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                beforeId = Long.valueOf(cursor);
+            } catch (NumberFormatException e) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity("Curseur invalide")
+                        .build();
+            }
+        }
+
+        List<Review> reviews = reviewRepository.findPageByTeacherId(id, beforeId, pageSize);
+        // Une page vide ne distingue pas un enseignant sans avis d'un id inconnu (les avis
+        // existants garantissent l'enseignant par clé étrangère : pas de lecture en plus sinon)
+        if (reviews.isEmpty() && teacherRepository.findByIdOptional(id).isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Enseignant non trouvé")
+                    .build();
+        }
+
+        String nextCursor = null;
+        if (reviews.size() > pageSize) {
+            reviews = reviews.subList(0, pageSize);
+            nextCursor = reviews.get(pageSize - 1).id.toString();
+        }
+
+        List<ReviewDto> reviewDtos = reviews.stream()
+                .map(ReviewDto::new)
+                .collect(Collectors.toList());
+
+        return Response.ok(new PageDto<>(reviewDtos, nextCursor, pageSize)).build();
+    }
+
+    // Avis d'un parent, identifié par son jeton ; la note moyenne est mise à jour par incrément
+    @POST
+    @Path("/{id}/reviews")
+    @Transactional
+    @RolesAllowed("PARENT")
+    public Response createReview(@PathParam("id") Long id, @Valid @NotNull ReviewRequest request) {
+        Optional<Teacher> teacherOpt = teacherRepository.findByIdOptional(id);
         if (teacherOpt.isEmpty()) {
             return Response.status(Response.Status.NOT_FOUND)
                     .entity("Enseignant non trouvé")
                     .build();
         }
 
-        TeacherDto teacherDto = new TeacherDto(teacherOpt.get());
-        return Response.ok(teacherDto).build();
+        Optional<Parent> parentOpt = TokenService.userId(jwt).flatMap(parentRepository::findByIdOptional);
+        if (parentOpt.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Parent non trouvé")
+                    .build();
+        }
+
+        Review review = new Review(parentOpt.get(), teacherOpt.get(), request.rating, request.comment.trim());
+        // Contrainte d'unicité (parent, enseignant) : un second avis, même concurrent, échoue ici
+        try {
+            reviewRepository.persist(review);
+        } catch (PersistenceException e) {
+            if (e instanceof ConstraintViolationException || e.getCause() instanceof ConstraintViolationException) {
+                QuarkusTransaction.setRollbackOnly();
+                return Response.status(Response.Status.CONFLICT)
+                        .entity("Vous avez déjà laissé un avis pour cet enseignant")
+                        .build();
+            }
+            throw e;
+        }
+        ratings.reviewAdded(teacherOpt.get(), review.rating);
+
+        return Response.status(Response.Status.CREATED).entity(new ReviewDto(review)).build();
+    }
+
+    @DELETE
+    @Path("/{id}/reviews/{reviewId}")
+    @Transactional
+    @RolesAllowed("ADMIN")
+    public Response deleteReview(@PathParam("id") Long id, @PathParam("reviewId") Long reviewId) {
+        Optional<Review> reviewOpt = reviewRepository.findByIdOptional(reviewId);
+        if (reviewOpt.isEmpty() || !reviewOpt.get().teacher.id.equals(id)) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity("Avis non trouvé")
+                    .build();
+        }
+
+        Review review = reviewOpt.get();
+        reviewRepository.delete(review);
+        ratings.reviewRemoved(review.teacher, review.rating);
+
+        return Response.noContent().build();
     }
 
     // Endpoints pour l'administration
@@ -65,11 +431,7 @@ public class TeacherResource {
     @Path("/admin/pending")
     public Response getPendingTeachers() {
         List<Teacher> pendingTeachers = teacherRepository.findByStatus(Teacher.TeacherStatus.PENDING);
-        List<TeacherDto> teacherDtos = pendingTeachers.stream()
-                .map(TeacherDto::new)
-                .collect(Collectors.toList());
-
-        return Response.ok(teacherDtos).build();
+        return Response.ok(toSummaries(pendingTeachers)).build();
     }
 
     @GET
@@ -82,26 +444,22 @@ public class TeacherResource {
                 Teacher.TeacherStatus teacherStatus = Teacher.TeacherStatus.valueOf(status.toUpperCase());
                 teachers = teacherRepository.findByStatus(teacherStatus);
             } catch (IllegalArgumentException e) {
-                teachers = teacherRepository.listAll();
+                teachers = teacherRepository.listAllSummaries();
             }
         } else {
-            teachers = teacherRepository.listAll();
+            teachers = teacherRepository.listAllSummaries();
         }
         
-        List<TeacherDto> teacherDtos = teachers.stream()
-                .map(TeacherDto::new)
-                .collect(Collectors.toList());
-
-        return Response.ok(teacherDtos).build();
+        return Response.ok(toSummaries(teachers)).build();
     }
 
     @GET
     @Path("/admin/stats")
     public Response getTeacherStats() {
-        long activeTeachers = teacherRepository.count("status", Teacher.TeacherStatus.ACTIVE);
-        long pendingTeachers = teacherRepository.count("status", Teacher.TeacherStatus.PENDING);
-        long suspendedTeachers = teacherRepository.count("status", Teacher.TeacherStatus.SUSPENDED);
-        long totalTeachers = teacherRepository.count();
+        long activeTeachers = statsService.count(StatsService.Section.TEACHERS, Teacher.TeacherStatus.ACTIVE);
+        long pendingTeachers = statsService.count(StatsService.Section.TEACHERS, Teacher.TeacherStatus.PENDING);
+        long suspendedTeachers = statsService.count(StatsService.Section.TEACHERS, Teacher.TeacherStatus.SUSPENDED);
+        long totalTeachers = statsService.total(StatsService.Section.TEACHERS);
 
         java.util.Map<String, Object> stats = new java.util.HashMap<>();
         stats.put("activeTeachers", activeTeachers);
@@ -130,6 +488,9 @@ public class TeacherResource {
             Teacher.TeacherStatus newStatus = Teacher.TeacherStatus.valueOf(request.status.toUpperCase());
             teacher.status = newStatus;
             teacher.persist();
+            profileCache.invalidate(id);
+            searchIndex.reindex(id);
+            leaderboard.update(teacher);
             
             TeacherDto teacherDto = new TeacherDto(teacher);
             return Response.ok(teacherDto).build();
@@ -140,6 +501,45 @@ public class TeacherResource {
         }
     }
 
+    // Validation ou suspension d'un lot d'enseignants en une seule mise à jour
+    @PUT
+    @Path("/bulk/status")
+    @Transactional
+    @RolesAllowed("ADMIN")
+    public Response updateTeacherStatuses(BulkStatusRequest request) {
+        if (request == null || !request.hasValidIds()) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Liste d'ids obligatoire (" + BulkStatusRequest.MAX_IDS + " au maximum)")
+                    .build();
+        }
+
+        Teacher.TeacherStatus newStatus;
+        try {
+            newStatus = Teacher.TeacherStatus.valueOf(request.status.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Statut invalide. Valeurs autorisées : PENDING, ACTIVE, SUSPENDED")
+                    .build();
+        }
+
+        Set<Long> ids = request.distinctIds();
+        Map<Long, Teacher.TeacherStatus> previous = teacherRepository.findStatusesByIds(ids);
+        List<Long> changed = previous.entrySet().stream()
+                .filter(entry -> entry.getValue() != newStatus)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        if (!changed.isEmpty()) {
+            teacherRepository.updateStatus(changed, newStatus);
+            statsService.recordTransitions(StatsService.Section.TEACHERS, previous.values(), newStatus);
+            changed.forEach(profileCache::invalidate);
+            searchIndex.reindexAll(changed);
+            leaderboard.updateAll(changed);
+        }
+
+        return Response.ok(BulkStatusResultDto.of(ids, previous, newStatus)).build();
+    }
+
     @PUT
     @Path("/{id}")
     @Transactional
@@ -157,7 +557,15 @@ public class TeacherResource {
         // Mise à jour des champs de base (User)
         if (request.firstName != null) teacher.firstName = request.firstName;
         if (request.lastName != null) teacher.lastName = request.lastName;
-        if (request.profilePicture != null) teacher.profilePicture = request.profilePicture;
+        if (request.profilePicture != null) {
+            try {
+                pictureStore.apply(teacher, request.profilePicture);
+            } catch (IllegalArgumentException e) {
+                return Response.status(Response.Status.BAD_REQUEST)
+                        .entity(e.getMessage())
+                        .build();
+            }
+        }
         
         // Mise à jour des champs spécifiques Teacher
         if (request.subject != null) teacher.subject = request.subject;
@@ -179,12 +587,23 @@ public class TeacherResource {
         }
 
         teacher.persist();
+        profileCache.invalidate(id);
+        searchIndex.reindex(id);
+        leaderboard.update(teacher);
 
         TeacherDto teacherDto = new TeacherDto(teacher);
         return Response.ok(teacherDto).build();
     }
 
-    // Pour l'instant, nous allons utiliser l'endpoint PUT existant avec base64
+    // Vue liste : le nombre d'avis est l'agrégat rating_count, sans requête supplémentaire
+    private List<TeacherSummaryDto> toSummaries(List<Teacher> teachers) {
+        return teachers.stream()
+                .map(teacher -> new TeacherSummaryDto(teacher, teacher.ratingCount))
+                .collect(Collectors.toList());
+    }
+
+    // Pour l'instant, nous allons utiliser l'endpoint PUT existant avec base64 :
+    // l'image est extraite vers ProfilePictureStore et seule son URL est conservée.
     // L'upload de fichiers multipart sera implémenté plus tard
 
     // DTOs pour les requêtes
@@ -192,6 +611,22 @@ public class TeacherResource {
         public String status;
     }
 
+    public static class ReviewRequest {
+        @NotNull
+        @Min(1)
+        @Max(5)
+        public Integer rating;
+
+        @NotBlank
+        public String comment;
+    }
+
+    public static class AvailabilityRequest {
+        public Integer dayOfWeek;
+        public String startTime;
+        public String endTime;
+    }
+
     public static class UpdateTeacherRequest {
         public String firstName;
         public String lastName;
@@ -0,0 +1,40 @@
+package com.tuteurldom.resource;
+
+import io.quarkus.virtual.threads.VirtualThreads;
+import jakarta.inject.Inject;
+import java.util.concurrent.ExecutorService;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.jboss.resteasy.reactive.server.core.CurrentRequestManager;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+
+// Mode threads virtuels (tuteur.virtual-threads.enabled) : les endpoints bloquants quittent l'event
+// loop pour un thread virtuel au lieu d'un worker. C'est la mécanique du BlockingHandler de
+// RESTEasy Reactive (suspend puis reprise sur un autre exécuteur), mais choisie à l'exécution :
+// @RunOnVirtualThread est refusé au build tant que le projet compile en Java 17.
+//
+// Les accès JDBC restent plafonnés au nombre de connexions par JdbcPermits, au niveau des
+// repositories : seules les requêtes qui touchent la base attendent un jeton.
+public class VirtualThreadDispatch {
+
+    @ConfigProperty(name = "tuteur.virtual-threads.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @Inject
+    @VirtualThreads
+    ExecutorService virtualThreads;
+
+    // Sur l'event loop, avant le passage au pool de workers : un thread virtuel prend la suite,
+    // et le BlockingHandler, voyant qu'on peut déjà bloquer, ne redistribue pas la requête
+    @ServerRequestFilter(nonBlocking = true)
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+        ResteasyReactiveRequestContext context = CurrentRequestManager.get();
+        if (context.getTarget().isBlocking()) {
+            context.suspend();
+            context.resume(virtualThreads);
+        }
+    }
+}
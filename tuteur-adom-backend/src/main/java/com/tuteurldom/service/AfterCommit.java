@@ -0,0 +1,42 @@
+package com.tuteurldom.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+// Exécute une action une fois la transaction courante validée (immédiatement s'il n'y en a pas).
+// Sert aux caches et compteurs en mémoire, qui ne doivent refléter que des écritures commitées.
+@ApplicationScoped
+public class AfterCommit {
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    public void run(Runnable action) {
+        run(action, () -> {});
+    }
+
+    // Variante avec une action de compensation si la transaction est annulée
+    public void run(Runnable onCommit, Runnable onRollback) {
+        if (transactionRegistry.getTransactionKey() == null) {
+            onCommit.run();
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.tuteurldom.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Découpage et normalisation du texte pour la recherche : minuscules, accents retirés
+// ("Mathématiques" == "mathematiques"), mots vides ignorés, pluriels simples ramenés au singulier.
+public final class FrenchTextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "au", "aux", "avec", "ce", "ces", "d", "dans", "de", "des", "du", "en", "et",
+            "je", "l", "la", "le", "les", "leur", "ma", "mes", "mon", "ne", "ou", "par", "pas",
+            "pour", "qu", "que", "qui", "sa", "se", "ses", "son", "sur", "ta", "te", "tous",
+            "tout", "un", "une", "vos", "votre", "y"
+    );
+
+    private FrenchTextAnalyzer() {}
+
+    public static String fold(String text) {
+        String folded = text.toLowerCase(Locale.ROOT)
+                .replace("œ", "oe")
+                .replace("æ", "ae");
+        return DIACRITICS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(stem(token));
+            }
+        }
+        return tokens;
+    }
+
+    // Pluriels réguliers uniquement : "cours" et "mathematiques" restent cohérents
+    // puisque la même règle s'applique à l'indexation et à la requête
+    private static String stem(String token) {
+        if (token.length() > 3 && (token.endsWith("s") || token.endsWith("x"))) {
+            return token.substring(0, token.length() - 1);
+        }
+        return token;
+    }
+}
@@ -0,0 +1,14 @@
+package com.tuteurldom.service;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Accès JDBC du bean annoté soumis aux jetons du mode threads virtuels (voir JdbcPermits)
+@InterceptorBinding
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JdbcPermit {
+}
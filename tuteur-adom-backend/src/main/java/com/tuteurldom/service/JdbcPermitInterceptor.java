@@ -0,0 +1,22 @@
+package com.tuteurldom.service;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+// Avant RepositoryMetrics : l'attente d'un jeton n'entre pas dans la durée des appels mesurée
+@JdbcPermit
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION - 10)
+public class JdbcPermitInterceptor {
+
+    @Inject
+    JdbcPermits permits;
+
+    @AroundInvoke
+    Object withPermit(InvocationContext context) throws Exception {
+        return permits.call(context::proceed);
+    }
+}
@@ -0,0 +1,109 @@
+package com.tuteurldom.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Context;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Mode threads virtuels : un sémaphore équitable plafonne les accès JDBC simultanés au nombre de
+// connexions. Le jeton est pris au premier appel de repository et tenu jusqu'à la fin de la
+// transaction (connexion comprise), ou le temps de l'appel hors transaction ; les requêtes sans
+// base (fichiers statiques, profils en cache, bcrypt) n'en prennent pas. Au-delà du délai : 503.
+@ApplicationScoped
+public class JdbcPermits {
+
+    @ConfigProperty(name = "tuteur.virtual-threads.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "tuteur.virtual-threads.jdbc-permits", defaultValue = "20")
+    int jdbcPermits;
+
+    @ConfigProperty(name = "tuteur.virtual-threads.permit-timeout", defaultValue = "5s")
+    Duration permitTimeout;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @Inject
+    MeterRegistry registry;
+
+    // Jeton tenu hors transaction par le thread courant (appels de repository imbriqués)
+    private final ThreadLocal<Boolean> held = new ThreadLocal<>();
+
+    private Semaphore permits;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        permits = new Semaphore(jdbcPermits, true);
+        Gauge.builder("tuteur.virtual-threads.jdbc-permits.available", permits, Semaphore::availablePermits)
+                .description("Jetons JDBC libres")
+                .register(registry);
+        Gauge.builder("tuteur.virtual-threads.jdbc-permits.waiting", permits, Semaphore::getQueueLength)
+                .description("Requêtes en attente d'un jeton JDBC")
+                .register(registry);
+        rejected = Counter.builder("tuteur.virtual-threads.jdbc-permits.rejected")
+                .description("Requêtes refusées faute de jeton JDBC (503)")
+                .register(registry);
+    }
+
+    public <T> T call(Callable<T> work) throws Exception {
+        // Mode désactivé, ou event loop (qui ne doit jamais attendre) : pas de jeton
+        if (!enabled || Context.isOnEventLoopThread() || held.get() != null) {
+            return work.call();
+        }
+        Object transaction = transactionRegistry.getTransactionKey();
+        if (transaction != null) {
+            if (transactionRegistry.getResource(JdbcPermits.class) == null) {
+                acquire();
+                transactionRegistry.putResource(JdbcPermits.class, Boolean.TRUE);
+                transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+                    @Override
+                    public void beforeCompletion() {
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        permits.release();
+                    }
+                });
+            }
+            return work.call();
+        }
+        acquire();
+        held.set(Boolean.TRUE);
+        try {
+            return work.call();
+        } finally {
+            held.remove();
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (permits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            rejected.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new WebApplicationException(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .entity("Trop de requêtes simultanées, veuillez réessayer")
+                .build());
+    }
+}
@@ -0,0 +1,144 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.dto.ParentDashboardDto;
+import com.tuteurldom.dto.ParentDto;
+import com.tuteurldom.dto.TeacherSummaryDto;
+import com.tuteurldom.repository.AppointmentRepository;
+import com.tuteurldom.repository.ParentRepository;
+import com.tuteurldom.repository.RequestRepository;
+import com.tuteurldom.repository.TeacherRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.ShutdownEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Tableau de bord d'un parent : quatre requêtes indépendantes (parent et enfants, demandes avec
+// leur cours, rendez-vous à venir avec demande et cours, enseignants cités) lancées en parallèle
+// sur un pool dédié, chacune dans sa propre transaction en lecture, puis assemblées en une réponse.
+// File pleine : la requête s'exécute sur le thread appelant. Ces requêtes, hors du contexte de la
+// requête HTTP, n'entrent pas dans tuteur.http.queries (voir tuteur.repository pour leur durée).
+@ApplicationScoped
+public class ParentDashboard {
+
+    @ConfigProperty(name = "tuteur.dashboard.threads", defaultValue = "8")
+    int threads;
+
+    @ConfigProperty(name = "tuteur.dashboard.queue-size", defaultValue = "64")
+    int queueSize;
+
+    @ConfigProperty(name = "tuteur.dashboard.timeout", defaultValue = "5s")
+    Duration timeout;
+
+    @Inject
+    ParentRepository parentRepository;
+
+    @Inject
+    RequestRepository requestRepository;
+
+    @Inject
+    AppointmentRepository appointmentRepository;
+
+    @Inject
+    TeacherRepository teacherRepository;
+
+    @Inject
+    MeterRegistry registry;
+
+    private ThreadPoolExecutor executor;
+
+    // Requêtes trop lentes : à traduire en 503 par l'appelant
+    public static class UnavailableException extends RuntimeException {
+        UnavailableException(Throwable cause) {
+            super("Tableau de bord du parent indisponible", cause);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                task -> {
+                    Thread thread = new Thread(task, "parent-dashboard-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        new ExecutorServiceMetrics(executor, "parent-dashboard", Tags.empty()).bindTo(registry);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        executor.shutdown();
+    }
+
+    // null si le parent n'existe pas
+    public ParentDashboardDto load(Long parentId) {
+        LocalDate today = LocalDate.now();
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        Future<ParentDto> parent = submit(() -> parentRepository.findWithChildren(parentId)
+                .map(ParentDto::new)
+                .orElse(null));
+        Future<List<ParentDashboardDto.RequestItem>> requests = submit(() ->
+                requestRepository.findByParentIdWithCourse(parentId).stream()
+                        .map(ParentDashboardDto.RequestItem::new)
+                        .collect(Collectors.toList()));
+        Future<List<ParentDashboardDto.AppointmentItem>> appointments = submit(() ->
+                appointmentRepository.findUpcomingByParentId(parentId, today).stream()
+                        .map(ParentDashboardDto.AppointmentItem::new)
+                        .collect(Collectors.toList()));
+        Future<List<TeacherSummaryDto>> teachers = submit(() ->
+                teacherRepository.findSummariesReferencedByParent(parentId).stream()
+                        .map(teacher -> new TeacherSummaryDto(teacher, teacher.ratingCount))
+                        .collect(Collectors.toList()));
+
+        List<Future<?>> all = List.of(parent, requests, appointments, teachers);
+        try {
+            ParentDto parentDto = await(parent, deadline, all);
+            if (parentDto == null) {
+                all.forEach(future -> future.cancel(true));
+                return null;
+            }
+            return new ParentDashboardDto(parentDto, await(requests, deadline, all),
+                    await(appointments, deadline, all), await(teachers, deadline, all));
+        } catch (InterruptedException e) {
+            all.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> query) {
+        return executor.submit(() -> QuarkusTransaction.requiringNew().call(query));
+    }
+
+    private static <T> T await(Future<T> future, long deadline, List<Future<?>> all) throws InterruptedException {
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            all.forEach(pending -> pending.cancel(true));
+            throw new UnavailableException(e);
+        } catch (ExecutionException e) {
+            all.forEach(pending -> pending.cancel(true));
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.tuteurldom.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.quarkus.elytron.security.common.BcryptUtil;
+import io.quarkus.runtime.ShutdownEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Hachage bcrypt des mots de passe sur un pool dédié et borné : le nombre de threads fixe le
+// plafond de débit des connexions, la file bornée rejette l'excédent (Overloaded) au lieu
+// d'accumuler des requêtes. L'appelant ne tient ni transaction ni connexion JDBC pendant l'attente.
+@ApplicationScoped
+public class PasswordHasher {
+
+    private static final String BCRYPT_PREFIX = "$2";
+
+    @ConfigProperty(name = "tuteur.passwords.bcrypt-cost", defaultValue = "10")
+    int cost;
+
+    // 0 : un thread par cœur disponible
+    @ConfigProperty(name = "tuteur.passwords.threads", defaultValue = "0")
+    int threads;
+
+    @ConfigProperty(name = "tuteur.passwords.queue-size", defaultValue = "64")
+    int queueSize;
+
+    @ConfigProperty(name = "tuteur.passwords.timeout", defaultValue = "5s")
+    Duration timeout;
+
+    @Inject
+    MeterRegistry registry;
+
+    private ThreadPoolExecutor executor;
+    private final AtomicLong rejected = new AtomicLong();
+    // Hash de référence au coût configuré, comparé quand il n'y a pas de hash réel à vérifier
+    private String dummyHash;
+
+    // Pool de hachage saturé : à traduire en 503 par l'appelant
+    public static class OverloadedException extends RuntimeException {
+        OverloadedException(Throwable cause) {
+            super("Pool de hachage des mots de passe saturé", cause);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = task -> {
+            Thread thread = new Thread(task, "password-hasher-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "password-hasher", Tags.empty()).bindTo(registry);
+        dummyHash = BcryptUtil.bcryptHash(UUID.randomUUID().toString(), cost);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        executor.shutdown();
+    }
+
+    public String hash(String password) {
+        if (password == null) {
+            // Laissé à la validation de l'entité (@NotBlank)
+            return null;
+        }
+        return submit(() -> BcryptUtil.bcryptHash(password, cost));
+    }
+
+    // Les anciennes lignes en clair sont encore acceptées (comparaison à temps constant),
+    // needsRehash() signale alors qu'il faut les remplacer par un hash. Sans hash réel (ligne en
+    // clair, compte inconnu), un bcrypt est tout de même calculé : la durée de la réponse ne
+    // révèle pas si l'email est inscrit.
+    public boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            verifyUnknown(password);
+            return false;
+        }
+        if (!isHashed(stored)) {
+            verifyUnknown(password);
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> BcryptUtil.matches(password, stored));
+    }
+
+    // Même coût qu'une vérification réelle, pour un compte inexistant ; toujours false
+    public boolean verifyUnknown(String password) {
+        String candidate = password != null ? password : "";
+        submit(() -> BcryptUtil.matches(candidate, dummyHash));
+        return false;
+    }
+
+    // Mot de passe en clair, ou haché avec un coût différent du coût configuré
+    public boolean needsRehash(String stored) {
+        if (!isHashed(stored)) {
+            return true;
+        }
+        // Format modulaire : $2a$10$...
+        try {
+            return Integer.parseInt(stored.substring(4, 6)) != cost;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return true;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", queueSize);
+        stats.put("completed", executor.getCompletedTaskCount());
+        stats.put("rejected", rejected.get());
+        stats.put("bcryptCost", cost);
+        return stats;
+    }
+
+    private static boolean isHashed(String stored) {
+        return stored.startsWith(BCRYPT_PREFIX);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new OverloadedException(e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new OverloadedException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.entity.User;
+import com.tuteurldom.repository.UserRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.util.List;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+// Déplace au démarrage les photos encore stockées en base64 dans users.profile_picture
+// vers ProfilePictureStore, par lots, chaque lot dans sa propre transaction.
+@ApplicationScoped
+public class ProfilePictureMigration {
+
+    private static final Logger LOG = Logger.getLogger(ProfilePictureMigration.class);
+    private static final int BATCH_SIZE = 50;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    ProfilePictureStore pictureStore;
+
+    @ConfigProperty(name = "tuteur.uploads.profile-pictures.migrate-on-start", defaultValue = "true")
+    boolean migrateOnStart;
+
+    void onStart(@Observes StartupEvent event) {
+        if (migrateOnStart) {
+            migrate();
+        }
+    }
+
+    public int migrate() {
+        int migrated = 0;
+        long lastId = 0;
+
+        while (true) {
+            final long afterId = lastId;
+            BatchResult result = QuarkusTransaction.requiringNew().call(() -> migrateBatch(afterId));
+            migrated += result.migrated;
+            if (result.lastId == null) {
+                break;
+            }
+            lastId = result.lastId;
+        }
+
+        if (migrated > 0) {
+            LOG.infof("%d photo(s) de profil migrée(s) vers %s", migrated, ProfilePictureStore.PUBLIC_PATH);
+        }
+        return migrated;
+    }
+
+    private BatchResult migrateBatch(long afterId) {
+        List<User> users = userRepository.find(
+                "profilePicture is not null and profilePictureUrl is null and id > :afterId",
+                Sort.ascending("id"),
+                Parameters.with("afterId", afterId))
+                .page(0, BATCH_SIZE)
+                .list();
+
+        BatchResult result = new BatchResult();
+        for (User user : users) {
+            result.lastId = user.id;
+            try {
+                pictureStore.apply(user, user.profilePicture);
+                result.migrated++;
+            } catch (IllegalArgumentException e) {
+                // Image illisible : on la laisse en place et on passe à la suivante
+                LOG.warnf("Photo de profil de l'utilisateur %d non migrée : %s", user.id, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private static class BatchResult {
+        Long lastId;
+        int migrated;
+    }
+}
@@ -0,0 +1,159 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.entity.User;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Stockage des photos de profil adressé par contenu : chaque image est écrite une seule fois
+// sous <sha256>.<ext> et la ligne User ne garde que le hash et l'URL publique.
+@ApplicationScoped
+public class ProfilePictureStore {
+
+    public static final String PUBLIC_PATH = "/uploads/profile-pictures/";
+
+    // Nom d'un original (<sha256>.<ext>) : seuls ceux-là ont des vignettes
+    private static final Pattern ORIGINAL_FILENAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+
+    @ConfigProperty(name = "tuteur.uploads.profile-pictures.dir", defaultValue = "uploads/profile-pictures")
+    String directory;
+
+    @Inject
+    ThumbnailGenerator thumbnails;
+
+    public static class StoredPicture {
+        public final String hash;
+        public final String url;
+
+        StoredPicture(String hash, String url) {
+            this.hash = hash;
+            this.url = url;
+        }
+    }
+
+    // Accepte une data URL ("data:image/png;base64,...") ou du base64 brut
+    public StoredPicture storeBase64(String encoded) {
+        String payload = encoded;
+        int comma = encoded.indexOf(',');
+        if (encoded.startsWith("data:") && comma > 0) {
+            payload = encoded.substring(comma + 1);
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Image de profil invalide", e);
+        }
+        return store(bytes);
+    }
+
+    public StoredPicture store(byte[] bytes) {
+        String extension = detectExtension(bytes);
+        if (extension == null) {
+            throw new IllegalArgumentException("Format d'image non supporté");
+        }
+
+        String hash = sha256(bytes);
+        String filename = hash + "." + extension;
+        Path target = root().resolve(filename);
+
+        // Même contenu => même fichier : on n'écrit que si l'image n'existe pas encore
+        if (!Files.exists(target)) {
+            try {
+                Files.createDirectories(target.getParent());
+                Path tmp = Files.createTempFile(target.getParent(), hash, ".tmp");
+                Files.write(tmp, bytes);
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Impossible d'enregistrer la photo de profil", e);
+            }
+            thumbnails.generateLater(target, hash);
+        }
+
+        return new StoredPicture(hash, PUBLIC_PATH + filename);
+    }
+
+    // Met à jour la photo d'un utilisateur à partir de la valeur reçue par l'API :
+    // image inline => stockée puis référencée par URL, URL => conservée telle quelle, vide => supprimée
+    public void apply(User user, String value) {
+        if (value.isBlank()) {
+            user.profilePictureHash = null;
+            user.profilePictureUrl = null;
+        } else if (isInlineImage(value)) {
+            StoredPicture picture = storeBase64(value);
+            user.profilePictureHash = picture.hash;
+            user.profilePictureUrl = picture.url;
+        } else {
+            user.profilePictureHash = null;
+            user.profilePictureUrl = value;
+        }
+        user.profilePicture = null;
+    }
+
+    // Renvoie null si le nom sort du répertoire des photos (traversée de répertoire)
+    public Path resolve(String filename) {
+        if (filename == null || filename.isEmpty() || filename.contains("/") || filename.contains("\\")) {
+            return null;
+        }
+        Path root = root().toAbsolutePath().normalize();
+        Path file = root.resolve(filename).normalize();
+        return file.getParent().equals(root) ? file : null;
+    }
+
+    public static boolean isOriginal(String filename) {
+        return ORIGINAL_FILENAME.matcher(filename).matches();
+    }
+
+    // URL d'une vignette pour une photo stockée ici, l'URL telle quelle sinon (photo externe)
+    public static String thumbnailUrl(String url, int size) {
+        if (url == null || !url.startsWith(PUBLIC_PATH)) {
+            return url;
+        }
+        return url + "?size=" + size;
+    }
+
+    public static boolean isInlineImage(String value) {
+        return value.startsWith("data:") || (!value.startsWith("/") && !value.contains("://"));
+    }
+
+    private Path root() {
+        return Paths.get(directory);
+    }
+
+    private static String detectExtension(byte[] bytes) {
+        if (bytes.length >= 3 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8 && (bytes[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (bytes.length >= 8 && (bytes[0] & 0xFF) == 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G') {
+            return "png";
+        }
+        if (bytes.length >= 6 && bytes[0] == 'G' && bytes[1] == 'I' && bytes[2] == 'F') {
+            return "gif";
+        }
+        if (bytes.length >= 12 && bytes[0] == 'R' && bytes[1] == 'I' && bytes[2] == 'F' && bytes[3] == 'F'
+                && bytes[8] == 'W' && bytes[9] == 'E' && bytes[10] == 'B' && bytes[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
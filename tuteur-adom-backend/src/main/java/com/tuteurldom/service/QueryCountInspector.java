@@ -0,0 +1,26 @@
+package com.tuteurldom.service;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Compte chaque instruction SQL préparée par Hibernate (HQL, natif, chargements paresseux)
+// dans la requête HTTP en cours : un N+1 se voit comme une hausse de tuteur.http.queries.
+// Hors contexte de requête (démarrage, tâches planifiées), rien n'est compté.
+@PersistenceUnitExtension
+@ApplicationScoped
+public class QueryCountInspector implements StatementInspector {
+
+    @Inject
+    RequestQueryCounter counter;
+
+    @Override
+    public String inspect(String sql) {
+        if (Arc.container().requestContext().isActive()) {
+            counter.increment();
+        }
+        return sql;
+    }
+}
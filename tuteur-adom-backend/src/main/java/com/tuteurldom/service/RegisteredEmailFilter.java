@@ -0,0 +1,169 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.repository.UserRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+// Filtre de Bloom des emails déjà inscrits. Une réponse négative est certaine : l'inscription
+// peut alors sauter la requête d'existence. Une réponse positive (vraie ou fausse) renvoie à la base.
+// Les emails sont normalisés en minuscules, comme la collation de la colonne users.email.
+// Le filtre n'est qu'un raccourci : la contrainte d'unicité en base reste l'arbitre final
+// (inscriptions concurrentes, autres instances).
+@ApplicationScoped
+public class RegisteredEmailFilter {
+
+    private static final Logger LOG = Logger.getLogger(RegisteredEmailFilter.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    @ConfigProperty(name = "tuteur.auth.email-filter.expected-emails", defaultValue = "100000")
+    long expectedEmails;
+
+    @ConfigProperty(name = "tuteur.auth.email-filter.false-positive-rate", defaultValue = "0.01")
+    double falsePositiveRate;
+
+    private static final class Bits {
+        final AtomicLongArray words;
+        final long size;
+        final int hashes;
+
+        Bits(long size, int hashes) {
+            this.words = new AtomicLongArray((int) ((size + 63) / 64));
+            this.size = size;
+            this.hashes = hashes;
+        }
+
+        boolean mightContain(String email) {
+            long[] hash = hash(email);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash[0] + i * hash[1], size);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void put(String email) {
+            long[] hash = hash(email);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(hash[0] + i * hash[1], size);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long value;
+                do {
+                    value = words.get(word);
+                } while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+            }
+        }
+    }
+
+    // null tant que le filtre n'est pas construit : toutes les vérifications passent par la base
+    private volatile Bits bits;
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong skippedLookups = new AtomicLong();
+    private final AtomicLong databaseLookups = new AtomicLong();
+
+    void onStart(@Observes StartupEvent event) {
+        load();
+    }
+
+    @Transactional
+    public void load() {
+        // Dimensionnement usuel : m = -n ln(p) / ln(2)^2, k = m/n ln(2)
+        long n = Math.max(expectedEmails, userRepository.count() * 2);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+
+        Bits filled = new Bits(m, k);
+        long count = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> batch = userRepository.findEmailBatchAfter(lastId, LOAD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Object[] row : batch) {
+                filled.put((String) row[1]);
+                count++;
+            }
+            lastId = (Long) batch.get(batch.size() - 1)[0];
+        }
+
+        // Une inscription commitée pendant la construction peut manquer au filtre : la contrainte
+        // d'unicité la rattrape, comme pour les inscriptions faites sur une autre instance
+        bits = filled;
+        inserted.set(count);
+        LOG.infof("Filtre des emails inscrits construit : %d email(s), %d bits, %d hachages", count, m, k);
+    }
+
+    // false : email certainement absent de la base
+    public boolean mightExist(String email) {
+        Bits current = bits;
+        if (current != null && email != null && !current.mightContain(email)) {
+            skippedLookups.incrementAndGet();
+            return false;
+        }
+        databaseLookups.incrementAndGet();
+        return true;
+    }
+
+    // À appeler dans la transaction d'inscription : l'email n'est ajouté qu'après commit
+    public void add(String email) {
+        afterCommit.run(() -> {
+            Bits current = bits;
+            if (current != null) {
+                current.put(email);
+                inserted.incrementAndGet();
+            }
+        });
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("emails", inserted.get());
+        Bits current = bits;
+        stats.put("bits", current != null ? current.size : 0);
+        stats.put("hashes", current != null ? current.hashes : 0);
+        stats.put("skippedLookups", skippedLookups.get());
+        stats.put("databaseLookups", databaseLookups.get());
+        return stats;
+    }
+
+    // Double hachage (Kirsch-Mitzenmacher) : deux valeurs dérivées d'un FNV-1a 64 bits
+    // par le mélange final de MurmurHash3
+    private static long[] hash(String email) {
+        byte[] bytes = email.trim().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        return new long[] {mix(h), mix(h ^ 0x9e3779b97f4a7c15L) | 1};
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
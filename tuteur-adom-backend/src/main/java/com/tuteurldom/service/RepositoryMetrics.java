@@ -0,0 +1,49 @@
+package com.tuteurldom.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// Timer tuteur.repository par repository et par méthode, avec histogramme (exposé sur /q/metrics)
+@Measured
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class RepositoryMetrics {
+
+    @Inject
+    MeterRegistry registry;
+
+    // Un timer par méthode, résolu une seule fois au lieu d'une recherche dans le registre à chaque appel
+    private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object time(InvocationContext context) throws Exception {
+        Timer timer = timers.computeIfAbsent(context.getMethod(), this::timer);
+        long start = System.nanoTime();
+        try {
+            return context.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(Method method) {
+        return Timer.builder("tuteur.repository")
+                .description("Durée des appels aux repositories")
+                .tag("repository", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.tuteurldom.service;
+
+import jakarta.enterprise.context.RequestScoped;
+
+// Nombre d'instructions SQL exécutées pendant la requête HTTP en cours (alimenté par QueryCountInspector)
+@RequestScoped
+public class RequestQueryCounter {
+
+    private int count;
+
+    void increment() {
+        count++;
+    }
+
+    public int get() {
+        return count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.tuteurldom.service;
+
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Collection;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+// Éviction ciblée du cache de second niveau après les mises à jour natives. Synchronisée sur une
+// entité, une requête native vide toute la région (tous les enseignants pour la note d'un seul) :
+// les repositories la synchronisent sur NO_ENTITY, un espace de requête qu'aucune entité ni requête
+// en cache ne lit, puis n'évincent que les lignes touchées, tout de suite et après la transaction
+// (une lecture concurrente a pu remettre l'ancienne ligne en cache entre-temps).
+//
+// Les régions n'expirent qu'après inactivité (max-idle, seule durée prise en charge) : une entrée
+// lue en continu survivrait à une écriture hors d'Hibernate (autre instance, SQL direct). Elles sont
+// donc toutes vidées à intervalle fixe (tuteur.cache.second-level.max-age).
+@ApplicationScoped
+public class SecondLevelCacheEviction {
+
+    public static final String NO_ENTITY = "second_level_cache_bypass";
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    public void evict(Class<?> entity, Collection<Long> ids) {
+        Cache cache = sessionFactory.getCache();
+        Runnable evict = () -> ids.forEach(id -> cache.evictEntityData(entity, id));
+        evict.run();
+        afterCommit.run(evict, evict);
+    }
+
+    @Scheduled(every = "${tuteur.cache.second-level.max-age:1h}", delayed = "${tuteur.cache.second-level.max-age:1h}")
+    void expire() {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData();
+        cache.evictCollectionData();
+        cache.evictDefaultQueryRegion();
+    }
+}
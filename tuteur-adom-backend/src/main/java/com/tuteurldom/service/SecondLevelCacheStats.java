@@ -0,0 +1,52 @@
+package com.tuteurldom.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+// Taux de succès du cache de second niveau d'Hibernate, par région (entités Teacher, Course,
+// Child, collections de lieux et d'enfants) et pour le cache de requêtes. Compteurs cumulés
+// depuis le démarrage ; les mêmes valeurs sont exportées en hibernate_second_level_cache_*.
+@ApplicationScoped
+public class SecondLevelCacheStats {
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    public Map<String, Object> stats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(region -> {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats == null) {
+                return;
+            }
+            regions.put(region, counters(regionStats.getHitCount(), regionStats.getMissCount(),
+                    regionStats.getPutCount(), regionStats.getElementCountInMemory()));
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("regions", regions);
+        result.put("queries", counters(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(), -1));
+        return result;
+    }
+
+    private static Map<String, Object> counters(long hits, long misses, long puts, long entries) {
+        Map<String, Object> counters = new LinkedHashMap<>();
+        counters.put("hits", hits);
+        counters.put("misses", misses);
+        counters.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        counters.put("puts", puts);
+        if (entries >= 0) {
+            counters.put("entries", entries);
+        }
+        return counters;
+    }
+}
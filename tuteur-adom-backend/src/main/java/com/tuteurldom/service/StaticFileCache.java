@@ -0,0 +1,121 @@
+package com.tuteurldom.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.EntityTag;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Métadonnées des fichiers servis sous /uploads (taille, date, ETag, type MIME), et contenu des
+// petits fichiers (vignettes) gardé en mémoire. LRU borné en octets. Les photos sont adressées
+// par leur SHA-256 et jamais réécrites : une entrée ne devient pas obsolète.
+@ApplicationScoped
+public class StaticFileCache {
+
+    private static final int METADATA_WEIGHT = 256;
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "tuteur.uploads.cache.max-bytes", defaultValue = "8388608")
+    long maxBytes;
+
+    @ConfigProperty(name = "tuteur.uploads.cache.inline-max-size", defaultValue = "65536")
+    long inlineMaxSize;
+
+    public static final class Entry {
+        public final Path path;
+        public final long size;
+        public final Date lastModified;
+        public final EntityTag etag;
+        public final String contentType;
+        // null : fichier trop gros, servi par sendfile depuis le disque
+        public final byte[] content;
+
+        Entry(Path path, long size, Date lastModified, EntityTag etag, String contentType, byte[] content) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.content = content;
+        }
+    }
+
+    private Cache<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String filename, Entry entry) ->
+                        METADATA_WEIGHT + (entry.content != null ? entry.content.length : 0))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, entries, "static-files");
+    }
+
+    // null si le fichier n'existe pas (non mis en cache)
+    public Entry get(String filename, Path path) {
+        return entries.get(filename, name -> load(name, path));
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = entries.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("entries", entries.estimatedSize());
+        result.put("weightBytes", entries.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        result.put("maxBytes", maxBytes);
+        return result;
+    }
+
+    private Entry load(String filename, Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            long size = attributes.size();
+            byte[] content = size <= inlineMaxSize ? Files.readAllBytes(path) : null;
+
+            int dot = filename.lastIndexOf('.');
+            String baseName = dot > 0 ? filename.substring(0, dot) : filename;
+            String extension = dot > 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+
+            // Nom = empreinte du contenu : ETag fort, identique sur toutes les instances
+            return new Entry(path, size, new Date(attributes.lastModifiedTime().toMillis()),
+                    new EntityTag(baseName), CONTENT_TYPES.getOrDefault(extension, "image/jpeg"), content);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Parent;
+import com.tuteurldom.entity.Request;
+import com.tuteurldom.entity.Teacher;
+import io.quarkus.arc.Arc;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+
+// Répercute les créations et changements de statut des entités sur les compteurs de StatsService.
+// Le statut lu en base est mémorisé au chargement pour détecter les transitions à la mise à jour.
+public class StatsEntityListener {
+
+    @PostLoad
+    void onLoad(Object entity) {
+        if (entity instanceof Teacher teacher) {
+            teacher.persistedStatus = teacher.status;
+        } else if (entity instanceof Request request) {
+            request.persistedStatus = request.status;
+        } else if (entity instanceof Appointment appointment) {
+            appointment.persistedStatus = appointment.status;
+        }
+    }
+
+    @PostPersist
+    void onPersist(Object entity) {
+        StatsService stats = stats();
+        if (entity instanceof Teacher teacher) {
+            stats.recordCreated(StatsService.Section.TEACHERS, teacher.status);
+        } else if (entity instanceof Request request) {
+            stats.recordCreated(StatsService.Section.REQUESTS, request.status);
+        } else if (entity instanceof Appointment appointment) {
+            stats.recordCreated(StatsService.Section.APPOINTMENTS, appointment.status);
+        } else if (entity instanceof Parent) {
+            stats.recordParentCreated();
+        }
+        onLoad(entity);
+    }
+
+    @PostUpdate
+    void onUpdate(Object entity) {
+        StatsService stats = stats();
+        if (entity instanceof Teacher teacher) {
+            stats.recordTransition(StatsService.Section.TEACHERS, teacher.persistedStatus, teacher.status);
+        } else if (entity instanceof Request request) {
+            stats.recordTransition(StatsService.Section.REQUESTS, request.persistedStatus, request.status);
+        } else if (entity instanceof Appointment appointment) {
+            stats.recordTransition(StatsService.Section.APPOINTMENTS, appointment.persistedStatus, appointment.status);
+        }
+        onLoad(entity);
+    }
+
+    private static StatsService stats() {
+        return Arc.container().instance(StatsService.class).get();
+    }
+}
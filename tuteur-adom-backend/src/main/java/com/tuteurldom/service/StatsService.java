@@ -0,0 +1,180 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Request;
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.entity.User;
+import com.tuteurldom.repository.AppointmentRepository;
+import com.tuteurldom.repository.RequestRepository;
+import com.tuteurldom.repository.TeacherRepository;
+import com.tuteurldom.repository.UserRepository;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Compteurs du tableau de bord administrateur tenus en mémoire.
+// Ils sont mis à jour par StatsEntityListener après chaque commit (création ou changement de statut)
+// et recalés périodiquement sur la base par des requêtes groupées pour corriger toute dérive
+// (mises à jour en masse, écritures hors application...).
+@ApplicationScoped
+public class StatsService {
+
+    public enum Section {
+        TEACHERS(Teacher.TeacherStatus.values()),
+        REQUESTS(Request.RequestStatus.values()),
+        APPOINTMENTS(Appointment.AppointmentStatus.values());
+
+        final Enum<?>[] statuses;
+
+        Section(Enum<?>[] statuses) {
+            this.statuses = statuses;
+        }
+    }
+
+    @Inject
+    TeacherRepository teacherRepository;
+
+    @Inject
+    UserRepository userRepository;
+
+    @Inject
+    RequestRepository requestRepository;
+
+    @Inject
+    AppointmentRepository appointmentRepository;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    private final Map<Section, AtomicLongArray> counters = new EnumMap<>(Section.class);
+    private final AtomicLong parents = new AtomicLong();
+    private volatile boolean initialized;
+
+    public StatsService() {
+        for (Section section : Section.values()) {
+            counters.put(section, new AtomicLongArray(section.statuses.length));
+        }
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        reconcile();
+    }
+
+    // Recalage sur la base : 4 requêtes au total, quel que soit le volume
+    @Scheduled(every = "${tuteur.stats.reconcile-every:5m}", delayed = "${tuteur.stats.reconcile-every:5m}")
+    @Transactional
+    public void reconcile() {
+        reset(Section.TEACHERS, teacherRepository.countByStatus());
+        reset(Section.REQUESTS, requestRepository.countByStatus());
+        reset(Section.APPOINTMENTS, appointmentRepository.countByStatus());
+        parents.set(userRepository.count("role", User.UserRole.PARENT));
+        initialized = true;
+    }
+
+    public void recordCreated(Section section, Enum<?> status) {
+        afterCommit.run(() -> counters.get(section).incrementAndGet(status.ordinal()));
+    }
+
+    public void recordTransition(Section section, Enum<?> from, Enum<?> to) {
+        if (from == to) {
+            return;
+        }
+        afterCommit.run(() -> {
+            AtomicLongArray values = counters.get(section);
+            if (from != null) {
+                values.decrementAndGet(from.ordinal());
+            }
+            values.incrementAndGet(to.ordinal());
+        });
+    }
+
+    // Transitions appliquées par une mise à jour en masse (qui ne passe pas par StatsEntityListener)
+    public void recordTransitions(Section section, Collection<? extends Enum<?>> from, Enum<?> to) {
+        int[] decrements = new int[section.statuses.length];
+        int moved = 0;
+        for (Enum<?> status : from) {
+            if (status != to) {
+                decrements[status.ordinal()]++;
+                moved++;
+            }
+        }
+        if (moved == 0) {
+            return;
+        }
+        int increment = moved;
+        afterCommit.run(() -> {
+            AtomicLongArray values = counters.get(section);
+            for (int i = 0; i < decrements.length; i++) {
+                if (decrements[i] != 0) {
+                    values.addAndGet(i, -decrements[i]);
+                }
+            }
+            values.addAndGet(to.ordinal(), increment);
+        });
+    }
+
+    public void recordParentCreated() {
+        afterCommit.run(parents::incrementAndGet);
+    }
+
+    public long count(Section section, Enum<?> status) {
+        ensureInitialized();
+        return counters.get(section).get(status.ordinal());
+    }
+
+    public long total(Section section) {
+        ensureInitialized();
+        AtomicLongArray values = counters.get(section);
+        long total = 0;
+        for (int i = 0; i < values.length(); i++) {
+            total += values.get(i);
+        }
+        return total;
+    }
+
+    // Même format que l'ancienne réponse de /api/admin/stats
+    public Map<String, Object> snapshot() {
+        ensureInitialized();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("teachers", sectionSnapshot(Section.TEACHERS));
+        stats.put("parents", Map.of("total", parents.get()));
+        stats.put("requests", sectionSnapshot(Section.REQUESTS));
+        stats.put("appointments", sectionSnapshot(Section.APPOINTMENTS));
+        return stats;
+    }
+
+    private Map<String, Long> sectionSnapshot(Section section) {
+        AtomicLongArray values = counters.get(section);
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        long total = 0;
+        for (Enum<?> status : section.statuses) {
+            long value = values.get(status.ordinal());
+            snapshot.put(status.name().toLowerCase(), value);
+            total += value;
+        }
+        snapshot.put("total", total);
+        return snapshot;
+    }
+
+    private void reset(Section section, Map<? extends Enum<?>, Long> counts) {
+        AtomicLongArray values = counters.get(section);
+        for (Map.Entry<? extends Enum<?>, Long> entry : counts.entrySet()) {
+            values.set(entry.getKey().ordinal(), entry.getValue());
+        }
+    }
+
+    private void ensureInitialized() {
+        if (!initialized) {
+            reconcile();
+        }
+    }
+}
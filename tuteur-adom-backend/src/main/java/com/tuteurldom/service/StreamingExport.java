@@ -0,0 +1,125 @@
+package com.tuteurldom.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+
+// Export d'une table entière directement dans la réponse HTTP, à mémoire constante :
+// lecture par curseur (fetch size), entités en lecture seule, contexte de persistance
+// vidé tous les N enregistrements, chaque ligne écrite dès qu'elle est convertie.
+@ApplicationScoped
+public class StreamingExport {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv; charset=UTF-8", "csv");
+
+        public final String mediaType;
+        public final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        // null si le format demandé n'est pas pris en charge
+        public static Format parse(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    EntityManager entityManager;
+
+    @ConfigProperty(name = "tuteur.export.fetch-size", defaultValue = "500")
+    int fetchSize;
+
+    @ConfigProperty(name = "tuteur.export.clear-every", defaultValue = "500")
+    int clearEvery;
+
+    @ConfigProperty(name = "tuteur.export.timeout", defaultValue = "30m")
+    Duration timeout;
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    // La requête est construite dans la transaction d'export, au moment où la réponse est écrite
+    public <E, D> Response export(Supplier<PanacheQuery<E>> query, Function<E, D> toDto, Class<D> dtoType,
+                                  Format format, String name) {
+        StreamingOutput output = out -> QuarkusTransaction.requiringNew()
+                .timeout((int) timeout.toSeconds())
+                .run(() -> {
+                    try (Stream<E> rows = query.get()
+                            .withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                            .withHint(HibernateHints.HINT_READ_ONLY, true)
+                            .stream()) {
+                        write(rows.iterator(), toDto, dtoType, format, out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        return Response.ok(output, format.mediaType)
+                .header("Content-Disposition", "attachment; filename=\"" + name + "." + format.extension + "\"")
+                .build();
+    }
+
+    private <E, D> void write(Iterator<E> rows, Function<E, D> toDto, Class<D> dtoType, Format format,
+                              OutputStream out) throws IOException {
+        ObjectWriter writer = format == Format.CSV
+                ? csvMapper.writerFor(dtoType).with(csvMapper.schemaFor(dtoType).withHeader())
+                : objectMapper.writerFor(dtoType).withRootValueSeparator("\n");
+
+        int written = 0;
+        try (SequenceWriter sequence = writer
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            while (rows.hasNext()) {
+                sequence.write(toDto.apply(rows.next()));
+                if (++written % clearEvery == 0) {
+                    entityManager.clear();
+                    sequence.flush();
+                }
+            }
+        }
+        if (format == Format.NDJSON && written > 0) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,626 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Request;
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.entity.User;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// Générateur de données synthétiques à grande échelle : enseignants, parents et enfants, cours,
+// demandes, rendez-vous et avis, avec des distributions réalistes (matières pondérées, tarifs en
+// Francs CFA selon la matière, popularité des enseignants en loi de Zipf, notes corrélées à une
+// qualité propre à chaque enseignant). Les lignes partent vers un Sink : lots JDBC (JdbcSink,
+// utilisé par SyntheticDataSeeder) ou fichiers TSV pour LOAD DATA (TsvSink, via main).
+//
+// Ids explicites, attribués à partir du maximum existant : les lignes peuvent être produites
+// table par table sans relire les clés générées. Chaque étape a son propre générateur aléatoire :
+// à graine égale, changer un volume ne modifie pas les autres tables.
+public class SyntheticDataGenerator {
+
+    // Ordre des clés étrangères : une table ne référence que des tables déclarées avant elle
+    public enum Table {
+        USERS("users", "id", "email", "password", "first_name", "last_name", "role"),
+        TEACHERS("teachers", "id", "subject", "hourly_rate", "skills", "bio", "status", "rating", "rating_sum",
+                "rating_count"),
+        TEACHER_LOCATIONS("teacher_locations", "teacher_id", "location"),
+        PARENTS("parents", "id"),
+        CHILDREN("children", "id", "name", "age", "grade", "parent_id"),
+        COURSES("courses", "id", "subject", "description", "hourly_rate", "teacher_id", "created_at"),
+        COURSE_LOCATIONS("course_locations", "course_id", "location"),
+        REQUESTS("requests", "id", "parent_id", "teacher_id", "course_id", "status", "message", "created_at"),
+        APPOINTMENTS("appointments", "id", "request_id", "parent_id", "teacher_id", "date", "start_time", "end_time",
+                "location", "status"),
+        REVIEWS("reviews", "id", "parent_id", "teacher_id", "rating", "comment", "created_at");
+
+        public final String name;
+        public final String[] columns;
+
+        Table(String name, String... columns) {
+            this.name = name;
+            this.columns = columns;
+        }
+
+        // Tables dont l'id est généré par la base (les autres n'ont pas de colonne id propre)
+        boolean hasOwnId() {
+            return columns[0].equals("id") && this != TEACHERS && this != PARENTS;
+        }
+    }
+
+    public interface Sink extends AutoCloseable {
+        // Plus grand id déjà présent, 0 pour une base vide
+        long maxId(Table table);
+
+        void row(Table table, Object... values);
+
+        @Override
+        void close();
+    }
+
+    public static class Settings {
+        public int teachers = 200;
+        public int parents = 1000;
+        public int requests = 2000;
+        public int reviews = 1000;
+        public long seed = 42;
+        public double zipfExponent = 0.8;
+        // Bcrypt de "password123" (coût 10), pour les fichiers générés hors de l'application
+        public String passwordHash = "$2a$10$k.2F6w.n5F9D9dB.oqmsDOMBFCJINUBBmZljEdC9f0QLEfGZ5W..a";
+        public LocalDate today = LocalDate.now();
+    }
+
+    private static final String EMAIL_DOMAIN = "@seed.tuteur-adom.local";
+
+    // Matière, compétences, poids (part des enseignants), facteur de tarif
+    private static final Object[][] SUBJECTS = {
+            {"Mathématiques - Niveau Collège", "Algèbre, Géométrie, Trigonométrie", 14, 1.0},
+            {"Mathématiques - Niveau Lycée", "Analyse, Probabilités, Préparation bac", 12, 1.15},
+            {"Français - Niveau Lycée", "Littérature, Grammaire, Rédaction", 12, 0.9},
+            {"Anglais - Tous niveaux", "Conversation, TOEFL, IELTS", 14, 1.05},
+            {"Sciences Physiques - Collège/Lycée", "Mécanique, Électricité, Optique", 9, 1.2},
+            {"Informatique - Programmation", "Python, Java, JavaScript, Algorithmique", 7, 1.4},
+            {"Espagnol - Tous niveaux", "Conversation, Grammaire, DELE", 5, 0.9},
+            {"Histoire-Géographie - Collège/Lycée", "Histoire contemporaine, Géopolitique", 6, 0.9},
+            {"Chimie - Lycée", "Chimie organique, Chimie minérale", 5, 1.1},
+            {"SVT - Collège/Lycée", "Biologie, Géologie, Préparation bac", 5, 1.0},
+            {"Économie-Gestion - Lycée", "Économie, Comptabilité, Management", 4, 1.2},
+            {"Philosophie - Terminale", "Dissertation, Explication de texte", 4, 1.0},
+            {"Allemand - Collège/Lycée", "Conversation, Grammaire, Goethe-Zertifikat", 3, 1.0}
+    };
+    private static final String[] FIRST_NAMES = {"Aya", "Awa", "Fatou", "Mariam", "Aminata", "Marie", "Sophie",
+            "Adjoua", "Affoué", "Nadia", "Kouassi", "Koffi", "Yao", "Moussa", "Ibrahim", "Jean", "Pierre",
+            "Serge", "Didier", "Ismaël", "Lucas", "Nicolas", "Franck", "Arnaud"};
+    private static final String[] LAST_NAMES = {"Kouamé", "Konan", "Koné", "Traoré", "Ouattara", "Yao", "Coulibaly",
+            "Diabaté", "Bamba", "Touré", "N'Guessan", "Kouadio", "Dupont", "Martin", "Bernard", "Moreau",
+            "Soumahoro", "Diallo", "Cissé", "Fofana"};
+    private static final String[] GRADES = {"CP", "CE1", "CE2", "CM1", "CM2", "6ème", "5ème", "4ème", "3ème",
+            "Seconde", "Première", "Terminale"};
+    private static final String[] REQUEST_MESSAGES = {
+            "Bonjour, je souhaiterais des cours pour mon enfant le mercredi après-midi.",
+            "Ma fille prépare le bac, seriez-vous disponible deux fois par semaine ?",
+            "Mon fils a des difficultés depuis la rentrée, pouvons-nous commencer rapidement ?",
+            "Nous cherchons un suivi régulier le week-end."
+    };
+    private static final String[][] REVIEW_COMMENTS = {
+            {"Peu disponible, séances souvent annulées."},
+            {"Explications parfois confuses."},
+            {"Correct, sans plus.", "Séances utiles mais manque de suivi."},
+            {"Bon professeur, explications claires et méthodiques.", "Très patient et pédagogue."},
+            {"Excellent ! Mon enfant a fait énormément de progrès.", "Professeur exceptionnel, je recommande."}
+    };
+    private static final Teacher.TeachingLocation[] LOCATIONS = Teacher.TeachingLocation.values();
+    private static final LocalTime[] SLOTS = {LocalTime.of(8, 0), LocalTime.of(10, 0), LocalTime.of(14, 0),
+            LocalTime.of(16, 0), LocalTime.of(18, 0)};
+    // Planning de 90 jours passés et 90 jours à venir
+    private static final int PLANNING_DAYS = 180;
+
+    private final Settings settings;
+    private final Sink sink;
+    private final Map<Table, Long> counts = new EnumMap<>(Table.class);
+
+    // État par enseignant (index 0..teachers-1), gardé en tableaux pour tenir des millions de lignes
+    private long teacherBase;
+    private long parentBase;
+    private long courseBase;
+    private byte[] subject;
+    private float[] quality;
+    private byte[] status;
+    private int[] firstCourse;
+    private byte[] courseCount;
+    private int[] appointmentSlots;
+    private long[] ratingSum;
+    private int[] ratingCount;
+    private double[] popularity;
+
+    public SyntheticDataGenerator(Settings settings, Sink sink) {
+        this.settings = settings;
+        this.sink = sink;
+    }
+
+    // Nombre de lignes écrites par table
+    public Map<Table, Long> generate() {
+        teacherBase = sink.maxId(Table.USERS);
+        parentBase = teacherBase + settings.teachers;
+        courseBase = sink.maxId(Table.COURSES);
+
+        profileTeachers();
+        aggregateReviews();
+        writeTeachers();
+        writeParents();
+        writeRequests();
+        writeReviews();
+        return counts;
+    }
+
+    // Matière, statut, qualité et popularité de chaque enseignant
+    private void profileTeachers() {
+        int teachers = settings.teachers;
+        Random random = new Random(settings.seed + 1);
+        subject = new byte[teachers];
+        quality = new float[teachers];
+        status = new byte[teachers];
+        courseCount = new byte[teachers];
+        firstCourse = new int[teachers];
+        appointmentSlots = new int[teachers];
+
+        int[] cumulativeWeights = new int[SUBJECTS.length];
+        int total = 0;
+        for (int i = 0; i < SUBJECTS.length; i++) {
+            total += (int) SUBJECTS[i][2];
+            cumulativeWeights[i] = total;
+        }
+
+        int courses = 0;
+        for (int t = 0; t < teachers; t++) {
+            int draw = random.nextInt(total);
+            int s = 0;
+            while (draw >= cumulativeWeights[s]) {
+                s++;
+            }
+            subject[t] = (byte) s;
+            quality[t] = (float) (random.nextGaussian() * 0.6);
+            int statusDraw = random.nextInt(100);
+            status[t] = (byte) (statusDraw < 90 ? Teacher.TeacherStatus.ACTIVE.ordinal()
+                    : statusDraw < 97 ? Teacher.TeacherStatus.PENDING.ordinal()
+                    : Teacher.TeacherStatus.SUSPENDED.ordinal());
+            // 1 à 4 cours, le plus souvent 1 ou 2
+            courseCount[t] = (byte) (1 + Math.min(3, (int) Math.abs(random.nextGaussian() * 1.2)));
+            firstCourse[t] = courses;
+            courses += courseCount[t];
+        }
+
+        // Popularité en loi de Zipf sur un classement aléatoire ; les enseignants non actifs
+        // ne reçoivent presque pas de demandes
+        int[] rank = new int[teachers];
+        for (int t = 0; t < teachers; t++) {
+            rank[t] = t;
+        }
+        Random shuffle = new Random(settings.seed + 2);
+        for (int t = teachers - 1; t > 0; t--) {
+            int j = shuffle.nextInt(t + 1);
+            int swap = rank[t];
+            rank[t] = rank[j];
+            rank[j] = swap;
+        }
+        popularity = new double[teachers];
+        double cumulative = 0;
+        for (int t = 0; t < teachers; t++) {
+            double weight = 1.0 / Math.pow(rank[t] + 1, settings.zipfExponent);
+            if (status[t] != Teacher.TeacherStatus.ACTIVE.ordinal()) {
+                weight *= 0.01;
+            }
+            cumulative += weight;
+            popularity[t] = cumulative;
+        }
+    }
+
+    private int popularTeacher(Random random) {
+        double target = random.nextDouble() * popularity[popularity.length - 1];
+        int index = Arrays.binarySearch(popularity, target);
+        return Math.min(index >= 0 ? index : -index - 1, popularity.length - 1);
+    }
+
+    // Premier passage sur les avis (même graine que writeReviews) : les agrégats de notes sont
+    // écrits avec les enseignants, avant les avis eux-mêmes
+    private void aggregateReviews() {
+        ratingSum = new long[settings.teachers];
+        ratingCount = new int[settings.teachers];
+        Random random = new Random(settings.seed + 6);
+        Set<Long> reviewed = new HashSet<>();
+        for (int r = 0; r < settings.reviews; r++) {
+            int parent = random.nextInt(settings.parents);
+            int teacher = popularTeacher(random);
+            int rating = reviewRating(teacher, random);
+            random.nextInt(2);
+            random.nextInt(365);
+            if (!firstReview(reviewed, parent, teacher)) {
+                continue;
+            }
+            ratingSum[teacher] += rating;
+            ratingCount[teacher]++;
+        }
+    }
+
+    // Un seul avis par parent et par enseignant (uk_reviews_parent_teacher) : un tirage déjà vu est
+    // sauté, après avoir consommé les mêmes nombres aléatoires dans les deux passages
+    private boolean firstReview(Set<Long> reviewed, int parent, int teacher) {
+        return reviewed.add((long) parent * settings.teachers + teacher);
+    }
+
+    private int reviewRating(int teacher, Random random) {
+        return (int) Math.max(1, Math.min(5, Math.round(4.1 + quality[teacher] + random.nextGaussian() * 0.8)));
+    }
+
+    private void writeTeachers() {
+        Random random = new Random(settings.seed + 3);
+        LocalDateTime createdAt = settings.today.atStartOfDay().minusDays(400);
+        for (int t = 0; t < settings.teachers; t++) {
+            long id = teacherBase + 1 + t;
+            Object[] subjectRow = SUBJECTS[subject[t]];
+            user(id, random, User.UserRole.TEACHER);
+            BigDecimal rating = ratingCount[t] == 0 ? BigDecimal.ZERO.setScale(2)
+                    : BigDecimal.valueOf(ratingSum[t]).divide(BigDecimal.valueOf(ratingCount[t]), 2, RoundingMode.HALF_UP);
+            row(Table.TEACHERS, id, subjectRow[0], hourlyRate((double) subjectRow[3], random), subjectRow[1],
+                    "Enseignant" + (random.nextBoolean() ? "" : "e") + " avec " + (1 + random.nextInt(25))
+                            + " ans d'expérience en " + ((String) subjectRow[0]).split(" - ")[0].toLowerCase(Locale.ROOT) + ".",
+                    Teacher.TeacherStatus.values()[status[t]].name(), rating, ratingSum[t], ratingCount[t]);
+
+            int locations = 1 + random.nextInt(7);
+            for (int l = 0; l < LOCATIONS.length; l++) {
+                if ((locations & (1 << l)) != 0) {
+                    row(Table.TEACHER_LOCATIONS, id, LOCATIONS[l].name());
+                }
+            }
+
+            for (int c = 0; c < courseCount[t]; c++) {
+                long courseId = courseBase + 1 + firstCourse[t] + c;
+                row(Table.COURSES, courseId, subjectRow[0], "Cours " + GRADES[random.nextInt(GRADES.length)]
+                                + " : " + subjectRow[1], hourlyRate((double) subjectRow[3], random), id,
+                        createdAt.plusMinutes(random.nextInt(60 * 24 * 300)));
+                row(Table.COURSE_LOCATIONS, courseId, LOCATIONS[random.nextInt(LOCATIONS.length)].name());
+            }
+        }
+    }
+
+    private void writeParents() {
+        Random random = new Random(settings.seed + 4);
+        long childId = sink.maxId(Table.CHILDREN);
+        for (int p = 0; p < settings.parents; p++) {
+            long id = parentBase + 1 + p;
+            user(id, random, User.UserRole.PARENT);
+            row(Table.PARENTS, id);
+            // 1 enfant le plus souvent, jusqu'à 4
+            int draw = random.nextInt(100);
+            int children = draw < 55 ? 1 : draw < 85 ? 2 : draw < 97 ? 3 : 4;
+            for (int c = 0; c < children; c++) {
+                int grade = random.nextInt(GRADES.length);
+                row(Table.CHILDREN, ++childId, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], 6 + grade,
+                        GRADES[grade], id);
+            }
+        }
+    }
+
+    // Demandes vers les enseignants populaires ; environ 80 % des demandes acceptées donnent un
+    // rendez-vous, sur des créneaux distincts par enseignant (pas de chevauchement) dans la
+    // limite de son planning
+    private void writeRequests() {
+        Random random = new Random(settings.seed + 5);
+        long requestId = sink.maxId(Table.REQUESTS);
+        long appointmentId = sink.maxId(Table.APPOINTMENTS);
+        LocalDateTime now = settings.today.atTime(12, 0);
+        for (int r = 0; r < settings.requests; r++) {
+            long parentId = parentBase + 1 + random.nextInt(settings.parents);
+            int teacher = popularTeacher(random);
+            long teacherId = teacherBase + 1 + teacher;
+            long courseId = courseBase + 1 + firstCourse[teacher] + random.nextInt(courseCount[teacher]);
+            int draw = random.nextInt(100);
+            Request.RequestStatus requestStatus = draw < 20 ? Request.RequestStatus.PENDING
+                    : draw < 80 ? Request.RequestStatus.APPROVED : Request.RequestStatus.REJECTED;
+            row(Table.REQUESTS, ++requestId, parentId, teacherId, courseId, requestStatus.name(),
+                    REQUEST_MESSAGES[random.nextInt(REQUEST_MESSAGES.length)],
+                    now.minusMinutes(random.nextInt(60 * 24 * 180)));
+
+            // Au-delà de l'horizon, le planning de l'enseignant est complet : pas de rendez-vous
+            if (requestStatus == Request.RequestStatus.APPROVED && random.nextInt(100) < 80
+                    && appointmentSlots[teacher] < PLANNING_DAYS * SLOTS.length) {
+                int slot = appointmentSlots[teacher]++;
+                LocalDate date = settings.today.minusDays(90).plusDays(slot / SLOTS.length);
+                LocalTime start = SLOTS[slot % SLOTS.length];
+                Appointment.AppointmentStatus appointmentStatus = date.isBefore(settings.today)
+                        ? (random.nextInt(100) < 85 ? Appointment.AppointmentStatus.COMPLETED : Appointment.AppointmentStatus.CANCELLED)
+                        : (random.nextInt(100) < 90 ? Appointment.AppointmentStatus.SCHEDULED : Appointment.AppointmentStatus.CANCELLED);
+                row(Table.APPOINTMENTS, ++appointmentId, requestId, parentId, teacherId, date, start,
+                        start.plusMinutes(90), LOCATIONS[random.nextInt(LOCATIONS.length)].name(), appointmentStatus.name());
+            }
+        }
+    }
+
+    private void writeReviews() {
+        Random random = new Random(settings.seed + 6);
+        long reviewId = sink.maxId(Table.REVIEWS);
+        LocalDateTime now = settings.today.atTime(12, 0);
+        Set<Long> reviewed = new HashSet<>();
+        for (int r = 0; r < settings.reviews; r++) {
+            int parent = random.nextInt(settings.parents);
+            int teacher = popularTeacher(random);
+            int rating = reviewRating(teacher, random);
+            String[] comments = REVIEW_COMMENTS[rating - 1];
+            String comment = comments[random.nextInt(2) % comments.length];
+            LocalDateTime createdAt = now.minusDays(random.nextInt(365));
+            if (!firstReview(reviewed, parent, teacher)) {
+                continue;
+            }
+            row(Table.REVIEWS, ++reviewId, parentBase + 1 + parent, teacherBase + 1 + teacher, rating, comment,
+                    createdAt);
+        }
+    }
+
+    private void user(long id, Random random, User.UserRole role) {
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String email = ascii(firstName) + "." + ascii(lastName) + "." + id + EMAIL_DOMAIN;
+        row(Table.USERS, id, email, settings.passwordHash, firstName, lastName, role.name());
+    }
+
+    // Tarif horaire en Francs CFA : autour de 15 000 selon la matière, par pas de 500
+    private static BigDecimal hourlyRate(double factor, Random random) {
+        double rate = 15000 * factor * Math.exp(random.nextGaussian() * 0.3);
+        long rounded = Math.round(Math.max(5000, Math.min(45000, rate)) / 500) * 500;
+        return BigDecimal.valueOf(rounded).setScale(2);
+    }
+
+    private static String ascii(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("[^\\p{ASCII}]", "")
+                .replaceAll("[^A-Za-z]", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private void row(Table table, Object... values) {
+        sink.row(table, values);
+        counts.merge(table, 1L, Long::sum);
+    }
+
+    // Lots JDBC (PreparedStatement.addBatch) sur une connexion dédiée, validés à chaque vidage.
+    // Les lots sont vidés dans l'ordre des tables pour respecter les clés étrangères.
+    // Avec MySQL, rewriteBatchedStatements=true regroupe chaque lot en un seul INSERT.
+    public static class JdbcSink implements Sink {
+
+        private final Connection connection;
+        private final int batchSize;
+        private final Map<Table, PreparedStatement> statements = new EnumMap<>(Table.class);
+        private final Map<Table, Integer> pending = new EnumMap<>(Table.class);
+
+        public JdbcSink(Connection connection, int batchSize) throws SQLException {
+            this.connection = connection;
+            this.batchSize = batchSize;
+            connection.setAutoCommit(false);
+        }
+
+        @Override
+        public long maxId(Table table) {
+            if (!table.hasOwnId()) {
+                throw new IllegalArgumentException("Pas d'id propre : " + table.name);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery("select coalesce(max(id), 0) from " + table.name)) {
+                result.next();
+                return result.getLong(1);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Lecture de l'id maximal de " + table.name, e);
+            }
+        }
+
+        @Override
+        public void row(Table table, Object... values) {
+            try {
+                PreparedStatement statement = statements.get(table);
+                if (statement == null) {
+                    statement = connection.prepareStatement("insert into " + table.name + " ("
+                            + String.join(", ", table.columns) + ") values ("
+                            + String.join(", ", Collections.nCopies(table.columns.length, "?")) + ")");
+                    statements.put(table, statement);
+                }
+                for (int i = 0; i < values.length; i++) {
+                    bind(statement, i + 1, values[i]);
+                }
+                statement.addBatch();
+                if (pending.merge(table, 1, Integer::sum) >= batchSize) {
+                    flush();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Insertion dans " + table.name, e);
+            }
+        }
+
+        private static void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value instanceof Long longValue) {
+                statement.setLong(index, longValue);
+            } else if (value instanceof Integer intValue) {
+                statement.setInt(index, intValue);
+            } else if (value instanceof BigDecimal decimal) {
+                statement.setBigDecimal(index, decimal);
+            } else if (value instanceof LocalDateTime dateTime) {
+                statement.setTimestamp(index, Timestamp.valueOf(dateTime));
+            } else if (value instanceof LocalDate date) {
+                statement.setDate(index, Date.valueOf(date));
+            } else if (value instanceof LocalTime time) {
+                statement.setTime(index, Time.valueOf(time));
+            } else {
+                statement.setString(index, (String) value);
+            }
+        }
+
+        private void flush() throws SQLException {
+            for (Map.Entry<Table, PreparedStatement> entry : statements.entrySet()) {
+                if (pending.getOrDefault(entry.getKey(), 0) > 0) {
+                    entry.getValue().executeBatch();
+                    pending.put(entry.getKey(), 0);
+                }
+            }
+            connection.commit();
+        }
+
+        @Override
+        public void close() {
+            try {
+                flush();
+                for (PreparedStatement statement : statements.values()) {
+                    statement.close();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Dernier lot de données synthétiques", e);
+            }
+        }
+    }
+
+    // Un fichier TSV par table (format par défaut de LOAD DATA : tabulations, \N pour NULL)
+    // et un script load.sql qui les charge, clés étrangères désactivées le temps du chargement.
+    // Les ids partent de 1 : à charger dans une base vide.
+    public static class TsvSink implements Sink {
+
+        private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+        private final Path directory;
+        private final Map<Table, Writer> writers = new EnumMap<>(Table.class);
+        private final StringBuilder line = new StringBuilder(256);
+
+        public TsvSink(Path directory) throws IOException {
+            this.directory = Files.createDirectories(directory);
+        }
+
+        @Override
+        public long maxId(Table table) {
+            return 0;
+        }
+
+        @Override
+        public void row(Table table, Object... values) {
+            line.setLength(0);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append('\t');
+                }
+                append(values[i]);
+            }
+            line.append('\n');
+            try {
+                Writer writer = writers.get(table);
+                if (writer == null) {
+                    writer = Files.newBufferedWriter(directory.resolve(table.name + ".tsv"), StandardCharsets.UTF_8);
+                    writers.put(table, writer);
+                }
+                writer.append(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void append(Object value) {
+            if (value == null) {
+                line.append("\\N");
+            } else if (value instanceof BigDecimal decimal) {
+                line.append(decimal.toPlainString());
+            } else if (value instanceof LocalDateTime dateTime) {
+                line.append(DATE_TIME.format(dateTime));
+            } else if (value instanceof LocalTime time) {
+                line.append(TIME.format(time));
+            } else if (value instanceof String text) {
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    switch (c) {
+                        case '\t' -> line.append("\\t");
+                        case '\n' -> line.append("\\n");
+                        case '\\' -> line.append("\\\\");
+                        default -> line.append(c);
+                    }
+                }
+            } else {
+                line.append(value);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                for (Writer writer : writers.values()) {
+                    writer.close();
+                }
+                try (BufferedWriter script = Files.newBufferedWriter(directory.resolve("load.sql"), StandardCharsets.UTF_8)) {
+                    script.write("-- mysql --local-infile=1 -u adom -p tuteur_adom < load.sql (depuis ce répertoire)\n");
+                    script.write("SET foreign_key_checks = 0;\nSET unique_checks = 0;\n");
+                    for (Table table : writers.keySet()) {
+                        script.write("LOAD DATA LOCAL INFILE '" + table.name + ".tsv' INTO TABLE " + table.name
+                                + " CHARACTER SET utf8mb4 (" + String.join(", ", table.columns) + ");\n");
+                    }
+                    script.write("SET unique_checks = 1;\nSET foreign_key_checks = 1;\n");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // Génération de fichiers hors de l'application, sans dépendance autre que le JDK :
+    // java -cp target/classes com.tuteurldom.service.SyntheticDataGenerator --out=target/seed \
+    //      --teachers=100000 --parents=1000000 --requests=2000000 --reviews=1000000
+    public static void main(String[] args) throws IOException {
+        Settings settings = new Settings();
+        Path out = Path.of("target/seed");
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Option attendue sous la forme --nom=valeur : " + arg);
+            }
+            switch (option[0]) {
+                case "out" -> out = Path.of(option[1]);
+                case "teachers" -> settings.teachers = Integer.parseInt(option[1]);
+                case "parents" -> settings.parents = Integer.parseInt(option[1]);
+                case "requests" -> settings.requests = Integer.parseInt(option[1]);
+                case "reviews" -> settings.reviews = Integer.parseInt(option[1]);
+                case "seed" -> settings.seed = Long.parseLong(option[1]);
+                case "zipf-exponent" -> settings.zipfExponent = Double.parseDouble(option[1]);
+                case "password-hash" -> settings.passwordHash = option[1];
+                default -> throw new IllegalArgumentException("Option inconnue : " + arg);
+            }
+        }
+
+        long start = System.nanoTime();
+        Map<Table, Long> counts;
+        try (TsvSink sink = new TsvSink(out)) {
+            counts = new SyntheticDataGenerator(settings, sink).generate();
+        }
+        long rows = counts.values().stream().mapToLong(Long::longValue).sum();
+        System.out.printf("%d lignes écrites dans %s en %d ms : %s%n", rows, out.toAbsolutePath(),
+                (System.nanoTime() - start) / 1_000_000, counts);
+    }
+}
@@ -0,0 +1,86 @@
+package com.tuteurldom.service;
+
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+// Jeu de données synthétique (profil loadtest, voir loadtest/) produit par SyntheticDataGenerator
+// et écrit par lots JDBC au démarrage, avant la construction des index en mémoire (priorité de
+// l'observateur). Déterministe pour une graine donnée sur une base vide ; tous les comptes
+// partagent le même mot de passe, haché une seule fois.
+@ApplicationScoped
+public class SyntheticDataSeeder {
+
+    private static final Logger LOG = Logger.getLogger(SyntheticDataSeeder.class);
+
+    @ConfigProperty(name = "tuteur.seed.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "tuteur.seed.teachers", defaultValue = "200")
+    int teachers;
+
+    @ConfigProperty(name = "tuteur.seed.parents", defaultValue = "1000")
+    int parents;
+
+    @ConfigProperty(name = "tuteur.seed.requests", defaultValue = "2000")
+    int requests;
+
+    @ConfigProperty(name = "tuteur.seed.reviews", defaultValue = "1000")
+    int reviews;
+
+    @ConfigProperty(name = "tuteur.seed.zipf-exponent", defaultValue = "0.8")
+    double zipfExponent;
+
+    @ConfigProperty(name = "tuteur.seed.password", defaultValue = "password123")
+    String password;
+
+    @ConfigProperty(name = "tuteur.seed.random-seed", defaultValue = "42")
+    long randomSeed;
+
+    @ConfigProperty(name = "tuteur.seed.batch-size", defaultValue = "1000")
+    int batchSize;
+
+    @Inject
+    DataSource dataSource;
+
+    @Inject
+    PasswordHasher passwordHasher;
+
+    void onStart(@Observes @Priority(1) StartupEvent event) {
+        if (enabled) {
+            seed();
+        }
+    }
+
+    public void seed() {
+        long start = System.nanoTime();
+        SyntheticDataGenerator.Settings settings = new SyntheticDataGenerator.Settings();
+        settings.teachers = teachers;
+        settings.parents = parents;
+        settings.requests = requests;
+        settings.reviews = reviews;
+        settings.seed = randomSeed;
+        settings.zipfExponent = zipfExponent;
+        settings.passwordHash = passwordHasher.hash(password);
+
+        Map<SyntheticDataGenerator.Table, Long> counts;
+        try (Connection connection = dataSource.getConnection();
+             SyntheticDataGenerator.JdbcSink sink = new SyntheticDataGenerator.JdbcSink(connection, batchSize)) {
+            counts = new SyntheticDataGenerator(settings, sink).generate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Échec du chargement des données synthétiques", e);
+        }
+
+        long rows = counts.values().stream().mapToLong(Long::longValue).sum();
+        LOG.infof("Données synthétiques chargées en %d ms : %d lignes %s",
+                (System.nanoTime() - start) / 1_000_000, rows, counts);
+    }
+}
@@ -0,0 +1,178 @@
+package com.tuteurldom.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Availability;
+import com.tuteurldom.repository.AppointmentRepository;
+import com.tuteurldom.repository.AvailabilityRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Disponibilités des enseignants sous forme de bitsets hebdomadaires : un bit par créneau
+// de 15 minutes, du lundi 00:00 au dimanche 24:00 (672 bits, 11 longs par enseignant).
+// Libre = disponibilité récurrente ET NON rendez-vous programmés de la semaine ;
+// une recherche sur un créneau revient à un ET bit à bit par enseignant candidat.
+@ApplicationScoped
+public class TeacherAvailabilityIndex {
+
+    public static final int SLOT_MINUTES = 15;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+    private static final int WORDS = (SLOTS_PER_WEEK + 63) / 64;
+
+    // Semaines de rendez-vous gardées en mémoire (les plus consultées restent)
+    private static final int CACHED_WEEKS = 12;
+
+    @Inject
+    AvailabilityRepository availabilityRepository;
+
+    @Inject
+    AppointmentRepository appointmentRepository;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    // Relecture périodique : prend en compte les rendez-vous écrits par une autre instance
+    // ou directement en base
+    @ConfigProperty(name = "tuteur.availability.booked-weeks-ttl", defaultValue = "1m")
+    Duration bookedWeeksTtl;
+
+    // Disponibilités récurrentes par enseignant ; les tableaux ne sont jamais modifiés après publication
+    private final Map<Long, long[]> weeklyMasks = new ConcurrentHashMap<>();
+
+    // Créneaux réservés par semaine (clé : epochDay du lundi) puis par enseignant
+    private Cache<Long, Map<Long, long[]>> bookedWeeks;
+
+    @PostConstruct
+    void init() {
+        bookedWeeks = Caffeine.newBuilder()
+                .maximumSize(CACHED_WEEKS)
+                .expireAfterWrite(bookedWeeksTtl)
+                .build();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        load();
+    }
+
+    @Transactional
+    public void load() {
+        Map<Long, long[]> masks = new ConcurrentHashMap<>();
+        for (Availability availability : availabilityRepository.listAll()) {
+            long[] mask = masks.computeIfAbsent(availability.teacher.id, id -> new long[WORDS]);
+            setAvailable(mask, availability);
+        }
+        weeklyMasks.clear();
+        weeklyMasks.putAll(masks);
+        bookedWeeks.invalidateAll();
+    }
+
+    // Remplace les disponibilités récurrentes d'un enseignant une fois la transaction validée
+    public void replaceWeekly(Long teacherId, List<Availability> availabilities) {
+        long[] mask = new long[WORDS];
+        for (Availability availability : availabilities) {
+            setAvailable(mask, availability);
+        }
+        afterCommit.run(() -> weeklyMasks.put(teacherId, mask));
+    }
+
+    // La semaine est rechargée plutôt que complétée : un chargement en cours au moment du commit
+    // ne verrait pas ce rendez-vous et resterait en cache
+    public void booked(Appointment appointment) {
+        long monday = monday(appointment.date).toEpochDay();
+        afterCommit.run(() -> bookedWeeks.invalidate(monday));
+    }
+
+    // Deux rendez-vous peuvent partager un créneau de 15 minutes : on recharge la semaine
+    // plutôt que d'effacer des bits qui appartiennent peut-être encore à un autre rendez-vous
+    public void released(Appointment appointment) {
+        long monday = monday(appointment.date).toEpochDay();
+        afterCommit.run(() -> bookedWeeks.invalidate(monday));
+    }
+
+    // Parmi les candidats (dans l'ordre fourni), ceux qui sont libres sur tout l'intervalle demandé
+    public List<Long> findAvailable(List<Long> candidateIds, LocalDate date, LocalTime startTime,
+                                    LocalTime endTime, int limit) {
+        long[] required = new long[WORDS];
+        setRange(required,
+                slot(date.getDayOfWeek(), startTime, false),
+                slot(date.getDayOfWeek(), endTime, true));
+
+        Map<Long, long[]> booked = bookedWeek(monday(date));
+        List<Long> available = new ArrayList<>();
+
+        for (Long teacherId : candidateIds) {
+            long[] weekly = weeklyMasks.get(teacherId);
+            if (weekly != null && isFree(weekly, booked.get(teacherId), required)) {
+                available.add(teacherId);
+                if (available.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return available;
+    }
+
+    private static boolean isFree(long[] weekly, long[] booked, long[] required) {
+        for (int i = 0; i < WORDS; i++) {
+            long free = weekly[i] & ~(booked != null ? booked[i] : 0L);
+            if ((free & required[i]) != required[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<Long, long[]> bookedWeek(LocalDate monday) {
+        return bookedWeeks.get(monday.toEpochDay(), key -> {
+            Map<Long, long[]> week = new ConcurrentHashMap<>();
+            for (Object[] row : appointmentRepository.findScheduledSlotsBetween(monday, monday.plusDays(6))) {
+                LocalDate date = (LocalDate) row[1];
+                long[] mask = week.computeIfAbsent((Long) row[0], id -> new long[WORDS]);
+                setRange(mask,
+                        slot(date.getDayOfWeek(), (LocalTime) row[2], false),
+                        slot(date.getDayOfWeek(), (LocalTime) row[3], true));
+            }
+            return week;
+        });
+    }
+
+    // Seuls les créneaux entièrement couverts par la disponibilité comptent
+    private static void setAvailable(long[] mask, Availability availability) {
+        DayOfWeek day = DayOfWeek.of(availability.dayOfWeek == 0 ? 7 : availability.dayOfWeek);
+        setRange(mask,
+                slot(day, availability.startTime, true),
+                slot(day, availability.endTime, false));
+    }
+
+    // Index du créneau de 15 minutes ; roundUp pour les bornes de fin (ou de début d'une disponibilité)
+    private static int slot(DayOfWeek day, LocalTime time, boolean roundUp) {
+        int minutes = time.getHour() * 60 + time.getMinute();
+        int slotOfDay = roundUp ? (minutes + SLOT_MINUTES - 1) / SLOT_MINUTES : minutes / SLOT_MINUTES;
+        return (day.getValue() - 1) * SLOTS_PER_DAY + slotOfDay;
+    }
+
+    private static void setRange(long[] mask, int from, int to) {
+        for (int slot = from; slot < to; slot++) {
+            mask[slot >>> 6] |= 1L << (slot & 63);
+        }
+    }
+
+    private static LocalDate monday(LocalDate date) {
+        return date.minusDays(date.getDayOfWeek().getValue() - 1L);
+    }
+}
@@ -0,0 +1,230 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.dto.TeacherSummaryDto;
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.repository.TeacherRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+// Classement des enseignants actifs les mieux notés, par matière et toutes matières confondues
+// (page d'accueil). Une matière « Mathématiques - Niveau Lycée » est classée sous son intitulé
+// complet et sous sa discipline (« Mathématiques »), sans tenir compte de la casse ni des
+// accents. Chaque classement est un ensemble trié (note desc, nombre d'avis desc, id)
+// dont les max-k premiers sont recopiés dans une liste figée à chaque modification : la lecture
+// ne prend aucun verrou et ne parcourt rien. Tenu à jour après commit sur les avis, les
+// changements de statut et les modifications de profil.
+@ApplicationScoped
+public class TeacherLeaderboard {
+
+    private static final Logger LOG = Logger.getLogger(TeacherLeaderboard.class);
+
+    private static final int BUILD_BATCH_SIZE = 500;
+    // Clé du classement toutes matières confondues
+    private static final String ALL_SUBJECTS = "";
+    // Séparateur entre la discipline et le niveau dans l'intitulé de la matière
+    private static final String LEVEL_SEPARATOR = " - ";
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparing((Entry entry) -> entry.rating).reversed()
+            .thenComparing(Comparator.comparingLong((Entry entry) -> entry.reviewCount).reversed())
+            .thenComparing(entry -> entry.id);
+
+    @Inject
+    TeacherRepository teacherRepository;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    @ConfigProperty(name = "tuteur.leaderboard.build-on-start", defaultValue = "true")
+    boolean buildOnStart;
+
+    @ConfigProperty(name = "tuteur.leaderboard.max-k", defaultValue = "50")
+    int maxK;
+
+    @ConfigProperty(name = "tuteur.leaderboard.min-reviews", defaultValue = "1")
+    int minReviews;
+
+    private static final class Entry {
+        final Long id;
+        final List<String> boardKeys;
+        final BigDecimal rating;
+        final long reviewCount;
+        final TeacherSummaryDto summary;
+
+        Entry(Teacher teacher) {
+            this.id = teacher.id;
+            this.boardKeys = boardKeys(teacher.subject);
+            this.rating = teacher.rating != null ? teacher.rating : BigDecimal.ZERO;
+            this.reviewCount = teacher.ratingCount;
+            this.summary = new TeacherSummaryDto(teacher, teacher.ratingCount);
+        }
+    }
+
+    private static final class Board {
+        final TreeSet<Entry> ranking = new TreeSet<>(RANKING);
+        // Les max-k premiers de ranking, remplacés en bloc : lus sans verrou
+        volatile List<TeacherSummaryDto> top = List.of();
+    }
+
+    // Écritures sérialisées par le moniteur de l'instance, lectures libres
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+
+    void onStart(@Observes StartupEvent event) {
+        if (buildOnStart) {
+            rebuild();
+        }
+    }
+
+    @Transactional
+    public void rebuild() {
+        List<Entry> built = new ArrayList<>();
+        long lastId = 0;
+
+        while (true) {
+            // Lots d'ids limités en base (pas de pagination en mémoire), enseignants classables seulement
+            List<Teacher> batch = teacherRepository.findRankableBatchAfter(lastId, minReviews, BUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (Teacher teacher : batch) {
+                if (ranked(teacher)) {
+                    built.add(new Entry(teacher));
+                }
+            }
+            lastId = batch.get(batch.size() - 1).id;
+            teacherRepository.getEntityManager().clear();
+        }
+
+        synchronized (this) {
+            entries.clear();
+            boards.clear();
+            built.forEach(this::add);
+            boards.values().forEach(this::publish);
+        }
+        LOG.infof("Classement des enseignants construit : %d enseignant(s) classé(s)", built.size());
+    }
+
+    // À appeler dans la transaction d'écriture, l'entité à jour (note, statut, profil) :
+    // le classement n'est modifié qu'après commit
+    public void update(Teacher teacher) {
+        Long id = teacher.id;
+        Entry entry = ranked(teacher) ? new Entry(teacher) : null;
+        afterCommit.run(() -> apply(List.of(id), entry == null ? List.of() : List.of(entry)));
+    }
+
+    // Variante groupée (mises à jour en masse, recalage des notes) : une requête pour tous les ids
+    public void updateAll(Collection<Long> teacherIds) {
+        List<Long> ids = new ArrayList<>(teacherIds);
+        List<Entry> built = teacherRepository.findSummariesByIds(ids).stream()
+                .filter(this::ranked)
+                .map(Entry::new)
+                .collect(Collectors.toList());
+        afterCommit.run(() -> apply(ids, built));
+    }
+
+    // Les k premiers de la matière (toutes matières si subject est vide), au plus max-k
+    public List<TeacherSummaryDto> top(String subject, int k) {
+        Board board = boards.get(subjectKey(subject));
+        if (board == null) {
+            return List.of();
+        }
+        List<TeacherSummaryDto> top = board.top;
+        return top.subList(0, Math.min(Math.max(k, 0), top.size()));
+    }
+
+    public int maxK() {
+        return maxK;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ranked", entries.size());
+        stats.put("boards", boards.size());
+        stats.put("maxK", maxK);
+        return stats;
+    }
+
+    private synchronized void apply(List<Long> ids, List<Entry> updated) {
+        Map<String, Board> touched = new HashMap<>();
+        for (Long id : ids) {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                remove(previous, touched);
+            }
+        }
+        for (Entry entry : updated) {
+            add(entry);
+            entry.boardKeys.forEach(key -> touched.put(key, boards.get(key)));
+        }
+        touched.values().forEach(this::publish);
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id, entry);
+        for (String key : entry.boardKeys) {
+            boards.computeIfAbsent(key, created -> new Board()).ranking.add(entry);
+        }
+    }
+
+    private void remove(Entry entry, Map<String, Board> touched) {
+        for (String key : entry.boardKeys) {
+            Board board = boards.get(key);
+            if (board == null) {
+                continue;
+            }
+            board.ranking.remove(entry);
+            if (board.ranking.isEmpty()) {
+                boards.remove(key);
+                touched.remove(key);
+            } else {
+                touched.put(key, board);
+            }
+        }
+    }
+
+    // O(max-k) à chaque écriture pour que la lecture soit en temps constant
+    private void publish(Board board) {
+        board.top = board.ranking.stream()
+                .limit(maxK)
+                .map(entry -> entry.summary)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private boolean ranked(Teacher teacher) {
+        return teacher.status == Teacher.TeacherStatus.ACTIVE && teacher.ratingCount >= minReviews;
+    }
+
+    private static String subjectKey(String subject) {
+        return subject == null ? ALL_SUBJECTS : FrenchTextAnalyzer.fold(subject.trim());
+    }
+
+    // Toutes matières, intitulé complet et discipline seule, sans doublon
+    private static List<String> boardKeys(String subject) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(ALL_SUBJECTS);
+        keys.add(subjectKey(subject));
+        if (subject != null && subject.contains(LEVEL_SEPARATOR)) {
+            keys.add(subjectKey(subject.substring(0, subject.indexOf(LEVEL_SEPARATOR))));
+        }
+        return List.copyOf(keys);
+    }
+}
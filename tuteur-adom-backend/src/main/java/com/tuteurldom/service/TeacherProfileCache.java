@@ -0,0 +1,103 @@
+package com.tuteurldom.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.tuteurldom.dto.TeacherDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Cache en lecture des profils enseignants (GET /api/teachers/{id}) : on garde le JSON déjà
+// sérialisé, borné en octets, avec expiration. Les écritures sur un enseignant, ses cours
+// ou ses avis invalident l'entrée après commit.
+@ApplicationScoped
+public class TeacherProfileCache {
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "tuteur.cache.teacher-profiles.max-bytes", defaultValue = "33554432")
+    long maxBytes;
+
+    @ConfigProperty(name = "tuteur.cache.teacher-profiles.ttl", defaultValue = "10m")
+    Duration ttl;
+
+    private Cache<Long, byte[]> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, byte[] json) -> json.length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "teacher-profiles");
+    }
+
+    // Renvoie le profil sérialisé, ou null si le loader ne trouve pas l'enseignant
+    public byte[] get(Long teacherId, Function<Long, TeacherDto> loader) {
+        return cache.get(teacherId, id -> {
+            TeacherDto teacher = loader.apply(id);
+            return teacher != null ? serialize(teacher) : null;
+        });
+    }
+
+    // Accès en deux temps pour les chargements asynchrones (lectures réactives)
+    public byte[] getIfPresent(Long teacherId) {
+        return cache.getIfPresent(teacherId);
+    }
+
+    public byte[] put(Long teacherId, TeacherDto teacher) {
+        byte[] json = serialize(teacher);
+        cache.put(teacherId, json);
+        return json;
+    }
+
+    public void invalidate(Long teacherId) {
+        afterCommit.run(() -> cache.invalidate(teacherId));
+    }
+
+    public void invalidateAll() {
+        afterCommit.run(cache::invalidateAll);
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("entries", cache.estimatedSize());
+        result.put("weightBytes", cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        result.put("maxBytes", maxBytes);
+        return result;
+    }
+
+    private byte[] serialize(TeacherDto teacher) {
+        try {
+            return objectMapper.writeValueAsBytes(teacher);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sérialisation du profil enseignant impossible", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.repository.ReviewRepository;
+import com.tuteurldom.repository.TeacherRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.jboss.logging.Logger;
+
+// Note moyenne des enseignants tenue à jour par incréments (rating_sum / rating_count)
+// au lieu de recharger tous les avis, avec un recalage périodique sur la table reviews
+// pour rattraper les écarts (avis modifiés hors de l'API, incrément perdu...).
+@ApplicationScoped
+public class TeacherRatings {
+
+    private static final Logger LOG = Logger.getLogger(TeacherRatings.class);
+
+    @Inject
+    TeacherRepository teacherRepository;
+
+    @Inject
+    ReviewRepository reviewRepository;
+
+    @Inject
+    TeacherProfileCache profileCache;
+
+    @Inject
+    TeacherSearchIndex searchIndex;
+
+    @Inject
+    TeacherLeaderboard leaderboard;
+
+    // À appeler dans la transaction qui persiste l'avis
+    public void reviewAdded(Teacher teacher, int rating) {
+        apply(teacher, rating, 1);
+    }
+
+    // À appeler dans la transaction qui supprime l'avis
+    public void reviewRemoved(Teacher teacher, int rating) {
+        apply(teacher, -rating, -1);
+    }
+
+    private void apply(Teacher teacher, int ratingDelta, int countDelta) {
+        teacherRepository.addRating(teacher.id, ratingDelta, countDelta);
+        // L'entité chargée a gardé les anciennes valeurs : la réindexation la relirait telle quelle
+        teacherRepository.getEntityManager().refresh(teacher);
+        profileCache.invalidate(teacher.id);
+        searchIndex.reindex(teacher.id);
+        leaderboard.update(teacher);
+    }
+
+    // Recalage : une requête groupée sur les avis, une lecture des agrégats,
+    // puis une correction des seuls enseignants en écart
+    @Scheduled(every = "${tuteur.ratings.reconcile-every:1h}", delayed = "${tuteur.ratings.reconcile-every:1h}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @Transactional
+    public void reconcile() {
+        Map<Long, long[]> expected = reviewRepository.aggregateByTeacher();
+
+        List<Long> drifted = new ArrayList<>();
+        for (Object[] row : teacherRepository.findRatingAggregates()) {
+            Long teacherId = (Long) row[0];
+            long[] aggregate = expected.getOrDefault(teacherId, new long[2]);
+            if (aggregate[0] != ((Number) row[1]).longValue() || aggregate[1] != ((Number) row[2]).longValue()) {
+                drifted.add(teacherId);
+            }
+        }
+
+        if (drifted.isEmpty()) {
+            return;
+        }
+
+        teacherRepository.recomputeRatings(drifted);
+        drifted.forEach(profileCache::invalidate);
+        searchIndex.reindexAll(drifted);
+        leaderboard.updateAll(drifted);
+        LOG.warnf("Notes recalées pour %d enseignant(s)", drifted.size());
+    }
+}
@@ -0,0 +1,240 @@
+package com.tuteurldom.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tuteurldom.dto.FreeSlotDto;
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.repository.AppointmentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+// Planning en mémoire des rendez-vous programmés, par enseignant : les créneaux réservés
+// ne se chevauchent jamais, une TreeMap triée par début suffit donc comme index d'intervalles
+// (chevauchement = voisin de gauche qui finit trop tard ou voisin de droite qui commence trop tôt).
+// Chargé à la première utilisation pour chaque enseignant (rendez-vous à partir du jour du
+// chargement), tenu à jour après commit. Borné en nombre d'enseignants et libéré après inactivité :
+// un planning évincé est rechargé depuis la base, qui reste l'arbitre des conflits (voir reserveSlot).
+@ApplicationScoped
+public class TeacherScheduleIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Inject
+    AppointmentRepository appointmentRepository;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    @ConfigProperty(name = "tuteur.scheduling.day-start", defaultValue = "08:00")
+    LocalTime dayStart;
+
+    @ConfigProperty(name = "tuteur.scheduling.day-end", defaultValue = "20:00")
+    LocalTime dayEnd;
+
+    @ConfigProperty(name = "tuteur.scheduling.max-teachers", defaultValue = "10000")
+    long maxTeachers;
+
+    @ConfigProperty(name = "tuteur.scheduling.idle-ttl", defaultValue = "30m")
+    Duration idleTtl;
+
+    @Inject
+    MeterRegistry registry;
+
+    private Cache<Long, Schedule> schedules;
+
+    // Créneau réservé ; appointmentId reste null tant que la transaction n'est pas validée
+    public static final class Booking {
+        final long start;
+        final long end;
+        volatile Long appointmentId;
+
+        Booking(long start, long end, Long appointmentId) {
+            this.start = start;
+            this.end = end;
+            this.appointmentId = appointmentId;
+        }
+    }
+
+    private static final class Schedule {
+        final ReentrantLock lock = new ReentrantLock();
+        final TreeMap<Long, Booking> bookings = new TreeMap<>();
+
+        boolean overlaps(long start, long end) {
+            Map.Entry<Long, Booking> before = bookings.floorEntry(start);
+            if (before != null && before.getValue().end > start) {
+                return true;
+            }
+            Map.Entry<Long, Booking> after = bookings.higherEntry(start);
+            return after != null && after.getKey() < end;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        schedules = Caffeine.newBuilder()
+                .maximumSize(maxTeachers)
+                .expireAfterAccess(idleTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, schedules, "teacher-schedules");
+    }
+
+    // Réserve le créneau de façon atomique pour cet enseignant, ou renvoie null s'il en chevauche un autre.
+    // Dans une transaction, la réservation est libérée automatiquement si elle est annulée ;
+    // l'appelant confirme avec confirm() une fois le rendez-vous persisté.
+    public Booking reserve(Long teacherId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        Schedule schedule = schedule(teacherId);
+        long start = toMinutes(date, startTime);
+        long end = toMinutes(date, endTime);
+
+        Booking booking;
+        schedule.lock.lock();
+        try {
+            if (schedule.overlaps(start, end)) {
+                return null;
+            }
+            booking = new Booking(start, end, null);
+            schedule.bookings.put(start, booking);
+        } finally {
+            schedule.lock.unlock();
+        }
+
+        afterCommit.run(() -> {}, () -> remove(schedule, booking));
+        return booking;
+    }
+
+    public void confirm(Booking booking, Long appointmentId) {
+        booking.appointmentId = appointmentId;
+    }
+
+    // Abandon explicite d'une réservation (conflit détecté après coup dans la base)
+    public void cancel(Long teacherId, Booking booking) {
+        Schedule schedule = schedules.getIfPresent(teacherId);
+        if (schedule != null) {
+            remove(schedule, booking);
+        }
+    }
+
+    // Retire un rendez-vous du planning une fois le changement de statut validé
+    public void release(Appointment appointment) {
+        Schedule schedule = schedules.getIfPresent(appointment.teacher.id);
+        if (schedule == null) {
+            return;
+        }
+        long start = toMinutes(appointment.date, appointment.startTime);
+        Long appointmentId = appointment.id;
+
+        afterCommit.run(() -> {
+            schedule.lock.lock();
+            try {
+                Booking booking = schedule.bookings.get(start);
+                if (booking != null && appointmentId.equals(booking.appointmentId)) {
+                    schedule.bookings.remove(start);
+                }
+            } finally {
+                schedule.lock.unlock();
+            }
+        });
+    }
+
+    // Lundi de la semaine contenant date
+    public static LocalDate weekStart(LocalDate date) {
+        return date.minusDays(date.getDayOfWeek().getValue() - 1L);
+    }
+
+    // Créneaux libres d'un enseignant existant sur la semaine contenant weekDate, dans les heures
+    // ouvrées. Les jours passés n'ont aucun créneau : le planning ne les contient pas.
+    public List<FreeSlotDto> freeSlots(Long teacherId, LocalDate weekDate) {
+        Schedule schedule = schedule(teacherId);
+        LocalDate monday = weekStart(weekDate);
+        LocalDate today = LocalDate.now();
+        List<FreeSlotDto> slots = new ArrayList<>();
+
+        schedule.lock.lock();
+        try {
+            for (int day = 0; day < 7; day++) {
+                LocalDate date = monday.plusDays(day);
+                if (date.isBefore(today)) {
+                    continue;
+                }
+                long open = toMinutes(date, dayStart);
+                long close = toMinutes(date, dayEnd);
+                long cursor = open;
+
+                Map.Entry<Long, Booking> before = schedule.bookings.lowerEntry(open);
+                if (before != null && before.getValue().end > cursor) {
+                    cursor = before.getValue().end;
+                }
+
+                NavigableMap<Long, Booking> dayBookings = schedule.bookings.subMap(open, true, close, false);
+                for (Booking booking : dayBookings.values()) {
+                    if (booking.start > cursor) {
+                        slots.add(toSlot(date, cursor, booking.start));
+                    }
+                    cursor = Math.max(cursor, booking.end);
+                }
+                if (cursor < close) {
+                    slots.add(toSlot(date, cursor, close));
+                }
+            }
+        } finally {
+            schedule.lock.unlock();
+        }
+        return slots;
+    }
+
+    private Schedule schedule(Long teacherId) {
+        Schedule schedule = schedules.getIfPresent(teacherId);
+        if (schedule != null) {
+            return schedule;
+        }
+
+        // Chargement hors de la map pour ne pas bloquer les autres enseignants pendant la requête
+        Schedule loaded = new Schedule();
+        for (Appointment appointment : appointmentRepository.findScheduledByTeacherFrom(teacherId, LocalDate.now())) {
+            long start = toMinutes(appointment.date, appointment.startTime);
+            long end = toMinutes(appointment.date, appointment.endTime);
+            loaded.bookings.put(start, new Booking(start, end, appointment.id));
+        }
+
+        Schedule existing = schedules.asMap().putIfAbsent(teacherId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static void remove(Schedule schedule, Booking booking) {
+        schedule.lock.lock();
+        try {
+            schedule.bookings.remove(booking.start, booking);
+        } finally {
+            schedule.lock.unlock();
+        }
+    }
+
+    private static long toMinutes(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60L + time.getMinute();
+    }
+
+    private static FreeSlotDto toSlot(LocalDate date, long startMinutes, long endMinutes) {
+        long dayOffset = date.toEpochDay() * MINUTES_PER_DAY;
+        return new FreeSlotDto(date,
+                toTime(startMinutes - dayOffset),
+                toTime(endMinutes - dayOffset));
+    }
+
+    private static LocalTime toTime(long minuteOfDay) {
+        return minuteOfDay >= MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.of((int) (minuteOfDay / 60), (int) (minuteOfDay % 60));
+    }
+}
@@ -0,0 +1,348 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.dto.TeacherCursor;
+import com.tuteurldom.entity.Course;
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.repository.CourseRepository;
+import com.tuteurldom.repository.TeacherRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+// Index inversé en mémoire pour la recherche d'enseignants : matière, compétences, bio,
+// intitulés et descriptions des cours. Classement BM25 avec pondération par champ, texte
+// normalisé par FrenchTextAnalyzer, dernier mot de la requête traité comme un préfixe
+// (recherche à la frappe). Construit au démarrage puis tenu à jour après chaque commit.
+@ApplicationScoped
+public class TeacherSearchIndex {
+
+    private static final Logger LOG = Logger.getLogger(TeacherSearchIndex.class);
+
+    private static final int BUILD_BATCH_SIZE = 500;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    // Paramètres BM25 usuels
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final float SUBJECT_WEIGHT = 3f;
+    private static final float SKILLS_WEIGHT = 2f;
+    private static final float COURSE_SUBJECT_WEIGHT = 2f;
+    private static final float BIO_WEIGHT = 1f;
+    private static final float COURSE_DESCRIPTION_WEIGHT = 1f;
+
+    @Inject
+    TeacherRepository teacherRepository;
+
+    @Inject
+    CourseRepository courseRepository;
+
+    @Inject
+    AfterCommit afterCommit;
+
+    @ConfigProperty(name = "tuteur.search.build-on-start", defaultValue = "true")
+    boolean buildOnStart;
+
+    // Filtres appliqués pendant le parcours des listes de postings
+    public static class Filters {
+        public final BigDecimal minRate;
+        public final BigDecimal maxRate;
+        public final Teacher.TeachingLocation location;
+
+        public Filters(BigDecimal minRate, BigDecimal maxRate, Teacher.TeachingLocation location) {
+            this.minRate = minRate;
+            this.maxRate = maxRate;
+            this.location = location;
+        }
+    }
+
+    private static final class Document {
+        final Long id;
+        final boolean active;
+        final BigDecimal hourlyRate;
+        final BigDecimal rating;
+        final Set<Teacher.TeachingLocation> locations;
+        final Map<String, Float> terms;
+        final float length;
+
+        Document(Teacher teacher, Map<String, Float> terms, float length) {
+            this.id = teacher.id;
+            this.active = teacher.status == Teacher.TeacherStatus.ACTIVE;
+            this.hourlyRate = teacher.hourlyRate;
+            this.rating = teacher.rating != null ? teacher.rating : BigDecimal.ZERO;
+            this.locations = teacher.teachingLocations.isEmpty()
+                    ? EnumSet.noneOf(Teacher.TeachingLocation.class)
+                    : EnumSet.copyOf(teacher.teachingLocations);
+            this.terms = terms;
+            this.length = length;
+        }
+
+        boolean matches(Filters filters) {
+            if (!active) {
+                return false;
+            }
+            if (filters.minRate != null && (hourlyRate == null || hourlyRate.compareTo(filters.minRate) < 0)) {
+                return false;
+            }
+            if (filters.maxRate != null && (hourlyRate == null || hourlyRate.compareTo(filters.maxRate) > 0)) {
+                return false;
+            }
+            return filters.location == null || locations.contains(filters.location);
+        }
+
+        boolean isAfter(TeacherCursor cursor) {
+            int byRating = rating.compareTo(cursor.rating);
+            return byRating < 0 || (byRating == 0 && id > cursor.id);
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    // Trié pour répondre aux requêtes par préfixe
+    private final TreeMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private double totalLength;
+
+    void onStart(@Observes StartupEvent event) {
+        if (buildOnStart) {
+            rebuild();
+        }
+    }
+
+    @Transactional
+    public void rebuild() {
+        List<Document> built = new ArrayList<>();
+        long lastId = 0;
+
+        while (true) {
+            List<Teacher> batch = teacherRepository.findSummaryBatchAfter(lastId, BUILD_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = batch.stream().map(teacher -> teacher.id).collect(Collectors.toList());
+            Map<Long, List<Course>> coursesByTeacher = courseRepository.findByTeacherIds(ids).stream()
+                    .collect(Collectors.groupingBy(course -> course.teacher.id));
+
+            for (Teacher teacher : batch) {
+                built.add(toDocument(teacher, coursesByTeacher.getOrDefault(teacher.id, List.of())));
+            }
+            lastId = batch.get(batch.size() - 1).id;
+            teacherRepository.getEntityManager().clear();
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+            built.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOG.infof("Index de recherche des enseignants construit : %d document(s)", built.size());
+    }
+
+    // À appeler dans la transaction d'écriture : le document est construit tout de suite
+    // à partir de l'état courant, l'index n'est modifié qu'après commit
+    public void reindex(Long teacherId) {
+        reindexAll(List.of(teacherId));
+    }
+
+    // Variante groupée (mises à jour en masse) : deux requêtes quel que soit le nombre d'enseignants
+    public void reindexAll(Collection<Long> teacherIds) {
+        List<Long> ids = new ArrayList<>(teacherIds);
+        Map<Long, List<Course>> coursesByTeacher = courseRepository.findByTeacherIds(ids).stream()
+                .collect(Collectors.groupingBy(course -> course.teacher.id));
+        List<Document> built = teacherRepository.findSummariesByIds(ids).stream()
+                .map(teacher -> toDocument(teacher, coursesByTeacher.getOrDefault(teacher.id, List.of())))
+                .collect(Collectors.toList());
+
+        afterCommit.run(() -> {
+            lock.writeLock().lock();
+            try {
+                ids.forEach(this::remove);
+                built.forEach(this::add);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // Ids des enseignants actifs correspondant à la requête, du plus pertinent au moins pertinent
+    public List<Long> search(String query, Filters filters, int limit) {
+        lock.readLock().lock();
+        try {
+            return score(query, filters).entrySet().stream()
+                    .sorted(Map.Entry.<Long, Float>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Mêmes correspondances, mais dans l'ordre de la pagination par curseur (rating desc, id asc)
+    public List<Long> searchByRating(String query, Filters filters, TeacherCursor after, int limit) {
+        lock.readLock().lock();
+        try {
+            return score(query, filters).keySet().stream()
+                    .map(documents::get)
+                    .filter(document -> after == null || document.isAfter(after))
+                    .sorted(Comparator.comparing((Document document) -> document.rating).reversed()
+                            .thenComparing(document -> document.id))
+                    .limit(limit)
+                    .map(document -> document.id)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Enseignants actifs correspondant aux seuls filtres (sans texte), par rating desc puis id
+    public List<Long> filter(Filters filters) {
+        lock.readLock().lock();
+        try {
+            return documents.values().stream()
+                    .filter(document -> document.matches(filters))
+                    .sorted(Comparator.comparing((Document document) -> document.rating).reversed()
+                            .thenComparing(document -> document.id))
+                    .map(document -> document.id)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("documents", documents.size());
+            stats.put("terms", postings.size());
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Tous les termes doivent correspondre ; le score d'un document est la somme des scores par terme
+    private Map<Long, Float> score(String query, Filters filters) {
+        List<String> terms = FrenchTextAnalyzer.tokens(query);
+        if (terms.isEmpty() || documents.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        boolean lastIsPrefix = Character.isLetterOrDigit(query.charAt(query.length() - 1));
+        Map<Long, Float> scores = null;
+
+        for (int i = 0; i < terms.size(); i++) {
+            Map<Long, Float> termScores = scoreTerm(terms.get(i), lastIsPrefix && i == terms.size() - 1, filters);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private Map<Long, Float> scoreTerm(String term, boolean prefix, Filters filters) {
+        Map<Long, Float> scores = new HashMap<>();
+        Map<String, Map<Long, Float>> matches = prefix
+                ? postings.subMap(term, true, term + Character.MAX_VALUE, true)
+                : (postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of());
+
+        double averageLength = Math.max(totalLength / documents.size(), 1.0);
+        int expansions = 0;
+
+        for (Map<Long, Float> posting : matches.values()) {
+            if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+
+            for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+                Document document = documents.get(entry.getKey());
+                if (!document.matches(filters)) {
+                    continue;
+                }
+                double tf = entry.getValue();
+                double normalized = tf * (K1 + 1) / (tf + K1 * (1 - B + B * document.length / averageLength));
+                // Plusieurs expansions d'un même préfixe : on garde la meilleure
+                scores.merge(document.id, (float) (idf * normalized), Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void add(Document document) {
+        documents.put(document.id, document);
+        for (Map.Entry<String, Float> term : document.terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(document.id, term.getValue());
+        }
+        totalLength += document.length;
+    }
+
+    private void remove(Long teacherId) {
+        Document document = documents.remove(teacherId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms.keySet()) {
+            Map<Long, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(teacherId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    private static Document toDocument(Teacher teacher, List<Course> courses) {
+        Map<String, Float> terms = new HashMap<>();
+        float length = 0;
+
+        length += addField(terms, teacher.subject, SUBJECT_WEIGHT);
+        length += addField(terms, teacher.skills, SKILLS_WEIGHT);
+        length += addField(terms, teacher.bio, BIO_WEIGHT);
+        for (Course course : courses) {
+            length += addField(terms, course.subject, COURSE_SUBJECT_WEIGHT);
+            length += addField(terms, course.description, COURSE_DESCRIPTION_WEIGHT);
+        }
+
+        return new Document(teacher, terms, length);
+    }
+
+    private static float addField(Map<String, Float> terms, String text, float weight) {
+        List<String> tokens = FrenchTextAnalyzer.tokens(text);
+        for (String token : tokens) {
+            terms.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+}
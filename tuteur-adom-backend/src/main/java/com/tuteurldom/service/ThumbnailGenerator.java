@@ -0,0 +1,244 @@
+package com.tuteurldom.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.quarkus.runtime.ShutdownEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+// Vignettes carrées des photos de profil (64, 128, 512 px), écrites à côté de l'original sous
+// <sha256>-<taille>.jpg. L'image est décodée une seule fois, chaque taille est réduite à partir
+// de la précédente. Le travail passe par un pool dédié et borné : un afflux d'envois ne prend
+// ni les threads HTTP ni le CPU des autres requêtes au-delà de ce pool.
+// ImageIO ne sait pas encoder le WebP : les variantes sont en JPEG (originaux WebP non réduits).
+// Les dimensions sont lues avant tout décodage : au-delà de max-pixels l'image est refusée
+// (bombe de décompression), sinon seul le carré central est décodé, sous-échantillonné.
+@ApplicationScoped
+public class ThumbnailGenerator {
+
+    private static final Logger LOG = Logger.getLogger(ThumbnailGenerator.class);
+
+    public static final List<Integer> SIZES = List.of(512, 128, 64);
+
+    @ConfigProperty(name = "tuteur.uploads.thumbnails.threads", defaultValue = "1")
+    int threads;
+
+    @ConfigProperty(name = "tuteur.uploads.thumbnails.queue-size", defaultValue = "32")
+    int queueSize;
+
+    @ConfigProperty(name = "tuteur.uploads.thumbnails.quality", defaultValue = "0.85")
+    float quality;
+
+    @ConfigProperty(name = "tuteur.uploads.thumbnails.timeout", defaultValue = "5s")
+    Duration timeout;
+
+    @ConfigProperty(name = "tuteur.uploads.thumbnails.max-pixels", defaultValue = "40000000")
+    long maxPixels;
+
+    @Inject
+    MeterRegistry registry;
+
+    private ThreadPoolExecutor executor;
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                task -> {
+                    Thread thread = new Thread(task, "thumbnail-generator-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "thumbnail-generator", Tags.empty()).bindTo(registry);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        executor.shutdown();
+    }
+
+    public static String variantFilename(String hash, int size) {
+        return hash + "-" + size + ".jpg";
+    }
+
+    // Après un envoi : génération en arrière-plan, abandonnée si le pool est saturé
+    // (elle sera faite à la première demande de vignette)
+    public void generateLater(Path original, String hash) {
+        try {
+            executor.execute(() -> generate(original, hash));
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+        }
+    }
+
+    // Génère les variantes manquantes et attend le résultat ; false si le pool est saturé,
+    // si le délai est dépassé ou si l'image ne peut pas être décodée
+    public boolean generateNow(Path original, String hash) {
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> generate(original, hash));
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", threads);
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", queueSize);
+        stats.put("generated", generated.get());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+
+    private boolean generate(Path original, String hash) {
+        Path directory = original.getParent();
+        if (SIZES.stream().allMatch(size -> Files.exists(directory.resolve(variantFilename(hash, size))))) {
+            return true;
+        }
+
+        try {
+            BufferedImage image = decodeSquare(original);
+            if (image == null) {
+                return false;
+            }
+
+            // Carré central déjà recadré, puis réductions successives (512 -> 128 -> 64)
+            int side = Math.min(image.getWidth(), image.getHeight());
+            BufferedImage current = image.getSubimage(0, 0, side, side);
+            for (int size : SIZES) {
+                current = downscale(current, Math.min(size, side));
+                write(current, directory.resolve(variantFilename(hash, size)));
+            }
+            generated.incrementAndGet();
+            return true;
+        } catch (IOException e) {
+            LOG.warnf("Vignettes non générées pour %s : %s", original.getFileName(), e.getMessage());
+            return false;
+        }
+    }
+
+    // Carré central de l'image, décodé avec un pas d'échantillonnage qui le ramène à au plus deux
+    // fois la plus grande vignette ; null si le format est inconnu ou l'image trop grande
+    private BufferedImage decodeSquare(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || (long) width * height > maxPixels) {
+                    LOG.warnf("Vignettes refusées pour %s : %dx%d pixels (maximum %d)",
+                            original.getFileName(), width, height, maxPixels);
+                    return null;
+                }
+
+                int side = Math.min(width, height);
+                int step = Math.max(1, side / (2 * SIZES.get(0)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Divisions par deux tant que possible (qualité proche d'un filtre de meilleure qualité,
+    // pour le coût d'interpolations bilinéaires), fond blanc pour la transparence
+    private static BufferedImage downscale(BufferedImage source, int target) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        do {
+            width = Math.max(target, width / 2);
+            BufferedImage next = new BufferedImage(width, width, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, width);
+                graphics.drawImage(current, 0, 0, width, width, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width > target);
+        return current;
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (OutputStream out = Files.newOutputStream(tmp);
+             ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
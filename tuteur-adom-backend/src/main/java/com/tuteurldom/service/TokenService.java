@@ -0,0 +1,130 @@
+package com.tuteurldom.service;
+
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.entity.User;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import io.smallrye.jwt.build.Jwt;
+import io.smallrye.jwt.build.JwtClaimsBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+// Émission des jetons signés (RS256). Le jeton d'accès porte tout ce qu'il faut pour autoriser
+// une requête sans lecture en base : id (sub), email (upn), rôle (groups) et statut enseignant.
+// Le jeton de rafraîchissement a une autre audience : il n'est pas accepté comme jeton d'accès.
+@ApplicationScoped
+public class TokenService {
+
+    public static final String ACCESS_AUDIENCE = "tuteur-adom-api";
+    public static final String REFRESH_AUDIENCE = "tuteur-adom-refresh";
+    public static final String TEACHER_STATUS_CLAIM = "teacherStatus";
+
+    @ConfigProperty(name = "mp.jwt.verify.issuer")
+    String issuer;
+
+    @ConfigProperty(name = "tuteur.jwt.access-ttl", defaultValue = "15m")
+    Duration accessTtl;
+
+    @ConfigProperty(name = "tuteur.jwt.refresh-ttl", defaultValue = "30d")
+    Duration refreshTtl;
+
+    @ConfigProperty(name = "smallrye.jwt.sign.key.location")
+    Optional<String> signKeyLocation;
+
+    @ConfigProperty(name = "smallrye.jwt.sign.key")
+    Optional<String> signKey;
+
+    @ConfigProperty(name = "mp.jwt.verify.publickey.location")
+    Optional<String> verifyKeyLocation;
+
+    @ConfigProperty(name = "mp.jwt.verify.publickey")
+    Optional<String> verifyKey;
+
+    @Inject
+    JWTParser parser;
+
+    @Inject
+    JWTAuthContextInfo authContextInfo;
+
+    private JWTAuthContextInfo refreshContextInfo;
+
+    public static class Tokens {
+        public final String accessToken;
+        public final String refreshToken;
+        public final long expiresIn;
+
+        Tokens(String accessToken, String refreshToken, long expiresIn) {
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.expiresIn = expiresIn;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        // Même clé et même émetteur que les jetons d'accès, audience de rafraîchissement
+        refreshContextInfo = new JWTAuthContextInfo(authContextInfo);
+        refreshContextInfo.setExpectedAudience(Set.of(REFRESH_AUDIENCE));
+    }
+
+    // Aucune clé par défaut : sans paire configurée, l'application ne démarre pas
+    void onStart(@Observes StartupEvent event) {
+        if (signKeyLocation.isEmpty() && signKey.isEmpty()) {
+            throw new IllegalStateException("Clé de signature JWT absente : renseigner SMALLRYE_JWT_SIGN_KEY_LOCATION");
+        }
+        if (verifyKeyLocation.isEmpty() && verifyKey.isEmpty()) {
+            throw new IllegalStateException("Clé publique JWT absente : renseigner MP_JWT_VERIFY_PUBLICKEY_LOCATION");
+        }
+    }
+
+    public Tokens issue(User user) {
+        JwtClaimsBuilder access = Jwt.issuer(issuer)
+                .audience(ACCESS_AUDIENCE)
+                .subject(user.id.toString())
+                .upn(user.email)
+                .groups(user.role.name())
+                .expiresIn(accessTtl);
+        if (user instanceof Teacher teacher) {
+            access.claim(TEACHER_STATUS_CLAIM, teacher.status.name());
+        }
+
+        String refresh = Jwt.issuer(issuer)
+                .audience(REFRESH_AUDIENCE)
+                .subject(user.id.toString())
+                .expiresIn(refreshTtl)
+                .sign();
+
+        return new Tokens(access.sign(), refresh, accessTtl.toSeconds());
+    }
+
+    // Id de l'utilisateur si le jeton de rafraîchissement est valide (signature, émetteur, audience, expiration)
+    public Optional<Long> verifyRefreshToken(String refreshToken) {
+        try {
+            JsonWebToken token = parser.parse(refreshToken, refreshContextInfo);
+            return Optional.of(Long.valueOf(token.getSubject()));
+        } catch (ParseException | NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Id de l'utilisateur porté par le jeton d'accès de la requête courante
+    public static Optional<Long> userId(JsonWebToken token) {
+        if (token == null || token.getSubject() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.valueOf(token.getSubject()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.tuteurldom.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+// Threads virtuels épinglés (événement JFR jdk.VirtualThreadPinned, JDK 21+) : un thread virtuel
+// qui bloque dans un bloc synchronized (pilote MySQL, pool, code applicatif) garde son thread
+// porteur et réduit d'autant le parallélisme. Timer tuteur.virtual-threads.pinned par site (premier
+// cadre hors du JDK) et un avertissement avec la pile à la première occurrence de chaque site.
+@ApplicationScoped
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger LOG = Logger.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 20;
+
+    @ConfigProperty(name = "tuteur.virtual-threads.enabled", defaultValue = "false")
+    boolean enabled;
+
+    @ConfigProperty(name = "tuteur.virtual-threads.pinned-threshold", defaultValue = "20ms")
+    Duration threshold;
+
+    @Inject
+    MeterRegistry registry;
+
+    private RecordingStream stream;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (Runtime.version().feature() < 21) {
+            LOG.warnf("Threads virtuels indisponibles sur le JDK %s : les endpoints restent sur le pool "
+                    + "de workers (plafond JDBC conservé)", Runtime.version());
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::pinned);
+        stream.startAsync();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void pinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String site = site(frames);
+        timers.computeIfAbsent(site, this::timer).record(event.getDuration());
+        if (reportedSites.add(site)) {
+            LOG.warnf("Thread virtuel épinglé pendant %d ms dans %s :%n%s", event.getDuration().toMillis(), site,
+                    frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::frame)
+                            .collect(Collectors.joining("\n\tat ", "\tat ", "")));
+        }
+    }
+
+    // Premier cadre hors du JDK : le code qui tient le moniteur pendant l'attente
+    private static String site(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return frames.isEmpty() ? "inconnu" : frame(frames.get(0));
+    }
+
+    private static String frame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+
+    private Timer timer(String site) {
+        return Timer.builder("tuteur.virtual-threads.pinned")
+                .description("Durée des épinglages de threads virtuels")
+                .tag("site", site)
+                .register(registry);
+    }
+}
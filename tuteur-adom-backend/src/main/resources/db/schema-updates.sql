@@ -0,0 +1,46 @@
+-- Mises à jour du schéma à appliquer sur une base existante
+-- (quarkus.hibernate-orm.database.generation=none : Hibernate ne modifie pas le schéma)
+
+-- Pagination par curseur de la recherche d'enseignants (rating non NULL : comparé et trié tel quel)
+UPDATE teachers SET rating = 0 WHERE rating IS NULL;
+ALTER TABLE teachers MODIFY rating DECIMAL(3,2) NOT NULL DEFAULT 0;
+CREATE INDEX idx_teachers_status_rating_id ON teachers (status, rating DESC, id);
+CREATE INDEX idx_teacher_locations_location ON teacher_locations (location, teacher_id);
+
+-- Photos de profil stockées hors de la base (ProfilePictureStore)
+ALTER TABLE users ADD COLUMN profile_picture_hash VARCHAR(64) NULL;
+ALTER TABLE users ADD COLUMN profile_picture_url VARCHAR(255) NULL;
+
+-- Pagination des avis par enseignant
+CREATE INDEX idx_reviews_teacher_id ON reviews (teacher_id, id);
+
+-- Détection des chevauchements de rendez-vous par enseignant
+CREATE INDEX idx_appointments_teacher_date ON appointments (teacher_id, date);
+
+-- Disponibilités hebdomadaires des enseignants (recherche par créneau)
+CREATE TABLE teacher_availabilities (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    teacher_id BIGINT NOT NULL,
+    day_of_week INT NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    CONSTRAINT fk_teacher_availabilities_teacher FOREIGN KEY (teacher_id) REFERENCES teachers (id)
+);
+CREATE INDEX idx_teacher_availabilities_teacher ON teacher_availabilities (teacher_id);
+
+-- Note moyenne tenue par incréments (somme et nombre des notes), initialisée à partir des avis
+ALTER TABLE teachers ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE teachers ADD COLUMN rating_count BIGINT NOT NULL DEFAULT 0;
+UPDATE teachers t SET
+    rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.teacher_id = t.id),
+    rating_count = (SELECT COUNT(*) FROM reviews r WHERE r.teacher_id = t.id);
+UPDATE teachers SET rating = ROUND(rating_sum * 1.0 / rating_count, 2) WHERE rating_count > 0;
+
+-- Un seul avis par parent et par enseignant : on garde le plus récent, puis on recalcule les notes
+DELETE r FROM reviews r
+    JOIN reviews newer ON newer.parent_id = r.parent_id AND newer.teacher_id = r.teacher_id AND newer.id > r.id;
+ALTER TABLE reviews ADD CONSTRAINT uk_reviews_parent_teacher UNIQUE (parent_id, teacher_id);
+UPDATE teachers t SET
+    rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.teacher_id = t.id),
+    rating_count = (SELECT COUNT(*) FROM reviews r WHERE r.teacher_id = t.id);
+UPDATE teachers SET rating = CASE WHEN rating_count = 0 THEN 0 ELSE ROUND(rating_sum * 1.0 / rating_count, 2) END;
@@ -110,4 +110,8 @@ INSERT INTO reviews (id, parent_id, teacher_id, rating, comment, created_at) VAL
 (1, 6, 4, 5, 'Excellente professeure ! Ma fille a fait énormément de progrès en anglais.', CURRENT_TIMESTAMP),
 (2, 5, 2, 4, 'Très patient et pédagogue. Mon fils comprend mieux les mathématiques maintenant.', CURRENT_TIMESTAMP),
 (3, 6, 10, 5, 'Professeure d''informatique exceptionnelle. Ma fille a adoré apprendre Python.', CURRENT_TIMESTAMP),
-(4, 5, 7, 4, 'Bon professeur de physique, explications claires et méthodiques.', CURRENT_TIMESTAMP); 
\ No newline at end of file
+(4, 5, 7, 4, 'Bon professeur de physique, explications claires et méthodiques.', CURRENT_TIMESTAMP); 
+
+-- Agrégats des notes (rating_sum / rating_count) et moyenne recalculés à partir des avis
+UPDATE teachers t SET rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.teacher_id = t.id), rating_count = (SELECT COUNT(*) FROM reviews r WHERE r.teacher_id = t.id);
+UPDATE teachers SET rating = ROUND(rating_sum * 1.0 / rating_count, 2) WHERE rating_count > 0;
@@ -0,0 +1,55 @@
+package com.tuteurldom.repository;
+
+import com.tuteurldom.entity.Appointment;
+import com.tuteurldom.entity.Parent;
+import com.tuteurldom.entity.Request;
+import com.tuteurldom.entity.Teacher;
+import io.smallrye.mutiny.Multi;
+import io.vertx.mutiny.mysqlclient.MySQLPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+// Lectures des rendez-vous par le client Vert.x MySQL (pendant réactif d'AppointmentRepository)
+@ApplicationScoped
+public class ReactiveAppointmentRepository {
+
+    private static final String SELECT_APPOINTMENT = "select id, request_id, parent_id, teacher_id, date, "
+            + "start_time, end_time, location, status from appointments ";
+
+    @Inject
+    MySQLPool client;
+
+    public Multi<Appointment> findByParentId(Long parentId) {
+        return find(SELECT_APPOINTMENT + "where parent_id = ?", parentId);
+    }
+
+    public Multi<Appointment> findByTeacherId(Long teacherId) {
+        return find(SELECT_APPOINTMENT + "where teacher_id = ?", teacherId);
+    }
+
+    private Multi<Appointment> find(String sql, Long id) {
+        return client.preparedQuery(sql)
+                .execute(Tuple.of(id))
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .map(ReactiveAppointmentRepository::toAppointment);
+    }
+
+    private static Appointment toAppointment(Row row) {
+        Appointment appointment = new Appointment();
+        appointment.id = row.getLong("id");
+        appointment.request = new Request();
+        appointment.request.id = row.getLong("request_id");
+        appointment.parent = new Parent();
+        appointment.parent.id = row.getLong("parent_id");
+        appointment.teacher = new Teacher();
+        appointment.teacher.id = row.getLong("teacher_id");
+        appointment.date = row.getLocalDate("date");
+        appointment.startTime = row.getLocalTime("start_time");
+        appointment.endTime = row.getLocalTime("end_time");
+        appointment.location = Teacher.TeachingLocation.valueOf(row.getString("location"));
+        appointment.status = Appointment.AppointmentStatus.valueOf(row.getString("status"));
+        return appointment;
+    }
+}
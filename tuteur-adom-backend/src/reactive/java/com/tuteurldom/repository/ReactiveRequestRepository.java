@@ -0,0 +1,53 @@
+package com.tuteurldom.repository;
+
+import com.tuteurldom.entity.Course;
+import com.tuteurldom.entity.Parent;
+import com.tuteurldom.entity.Request;
+import com.tuteurldom.entity.Teacher;
+import io.smallrye.mutiny.Multi;
+import io.vertx.mutiny.mysqlclient.MySQLPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+// Lectures des demandes par le client Vert.x MySQL (pendant réactif de RequestRepository)
+@ApplicationScoped
+public class ReactiveRequestRepository {
+
+    private static final String SELECT_REQUEST =
+            "select id, parent_id, teacher_id, course_id, status, message, created_at from requests ";
+
+    @Inject
+    MySQLPool client;
+
+    public Multi<Request> findByParentId(Long parentId) {
+        return find(SELECT_REQUEST + "where parent_id = ?", parentId);
+    }
+
+    public Multi<Request> findByTeacherId(Long teacherId) {
+        return find(SELECT_REQUEST + "where teacher_id = ?", teacherId);
+    }
+
+    private Multi<Request> find(String sql, Long id) {
+        return client.preparedQuery(sql)
+                .execute(Tuple.of(id))
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .map(ReactiveRequestRepository::toRequest);
+    }
+
+    private static Request toRequest(Row row) {
+        Request request = new Request();
+        request.id = row.getLong("id");
+        request.parent = new Parent();
+        request.parent.id = row.getLong("parent_id");
+        request.teacher = new Teacher();
+        request.teacher.id = row.getLong("teacher_id");
+        request.course = new Course();
+        request.course.id = row.getLong("course_id");
+        request.status = Request.RequestStatus.valueOf(row.getString("status"));
+        request.message = row.getString("message");
+        request.createdAt = row.getLocalDateTime("created_at");
+        return request;
+    }
+}
@@ -0,0 +1,122 @@
+package com.tuteurldom.repository;
+
+import com.tuteurldom.entity.Parent;
+import com.tuteurldom.entity.Review;
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.entity.User;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.mysqlclient.MySQLPool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Lectures des enseignants par le client Vert.x MySQL (pendant réactif de TeacherRepository).
+// Les lignes sont copiées dans des entités détachées pour réutiliser les DTOs existants.
+@ApplicationScoped
+public class ReactiveTeacherRepository {
+
+    private static final String SELECT_TEACHER = "select u.id, u.email, u.first_name, u.last_name, "
+            + "u.profile_picture_url, t.subject, t.hourly_rate, t.skills, t.bio, t.cv_url, t.status, t.rating, "
+            + "t.rating_count, l.location from teachers t join users u on u.id = t.id "
+            + "left join teacher_locations l on l.teacher_id = t.id ";
+
+    @Inject
+    MySQLPool client;
+
+    // Enseignants avec leurs lieux d'enseignement, dans l'ordre des ids fournis
+    public Uni<List<Teacher>> findSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Uni.createFrom().item(new ArrayList<>());
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return client.preparedQuery(SELECT_TEACHER + "where t.id in (" + placeholders + ")")
+                .execute(Tuple.tuple(new ArrayList<>(ids)))
+                .map(rows -> {
+                    Map<Long, Teacher> teachers = toTeachers(rows);
+                    List<Teacher> ordered = new ArrayList<>(teachers.size());
+                    for (Long id : ids) {
+                        Teacher teacher = teachers.get(id);
+                        if (teacher != null) {
+                            ordered.add(teacher);
+                        }
+                    }
+                    return ordered;
+                });
+    }
+
+    // Profil complet : lieux et avis, ou null si l'enseignant n'existe pas
+    public Uni<Teacher> findProfile(Long id) {
+        Uni<Teacher> teacher = client.preparedQuery(SELECT_TEACHER + "where t.id = ?")
+                .execute(Tuple.of(id))
+                .map(rows -> toTeachers(rows).get(id));
+        Uni<List<Review>> reviews = client.preparedQuery("select id, parent_id, rating, comment, created_at "
+                        + "from reviews where teacher_id = ? order by id")
+                .execute(Tuple.of(id))
+                .map(rows -> {
+                    List<Review> result = new ArrayList<>();
+                    for (Row row : rows) {
+                        result.add(toReview(row));
+                    }
+                    return result;
+                });
+
+        return Uni.combine().all().unis(teacher, reviews).asTuple().map(result -> {
+            Teacher profile = result.getItem1();
+            if (profile != null) {
+                profile.reviews = result.getItem2();
+                profile.reviews.forEach(review -> review.teacher = profile);
+            }
+            return profile;
+        });
+    }
+
+    // Une ligne par lieu d'enseignement : regroupées par enseignant
+    private static Map<Long, Teacher> toTeachers(Iterable<Row> rows) {
+        Map<Long, Teacher> teachers = new LinkedHashMap<>();
+        for (Row row : rows) {
+            Teacher teacher = teachers.computeIfAbsent(row.getLong("id"), id -> toTeacher(row));
+            String location = row.getString("location");
+            if (location != null) {
+                teacher.teachingLocations.add(Teacher.TeachingLocation.valueOf(location));
+            }
+        }
+        return teachers;
+    }
+
+    private static Teacher toTeacher(Row row) {
+        Teacher teacher = new Teacher();
+        teacher.id = row.getLong("id");
+        teacher.email = row.getString("email");
+        teacher.firstName = row.getString("first_name");
+        teacher.lastName = row.getString("last_name");
+        teacher.role = User.UserRole.TEACHER;
+        teacher.profilePictureUrl = row.getString("profile_picture_url");
+        teacher.subject = row.getString("subject");
+        teacher.hourlyRate = row.getBigDecimal("hourly_rate");
+        teacher.skills = row.getString("skills");
+        teacher.bio = row.getString("bio");
+        teacher.cvUrl = row.getString("cv_url");
+        teacher.status = Teacher.TeacherStatus.valueOf(row.getString("status"));
+        teacher.rating = row.getBigDecimal("rating");
+        teacher.ratingCount = row.getLong("rating_count");
+        return teacher;
+    }
+
+    private static Review toReview(Row row) {
+        Review review = new Review();
+        review.id = row.getLong("id");
+        review.parent = new Parent();
+        review.parent.id = row.getLong("parent_id");
+        review.rating = row.getInteger("rating");
+        review.comment = row.getString("comment");
+        review.createdAt = row.getLocalDateTime("created_at");
+        return review;
+    }
+}
@@ -0,0 +1,117 @@
+package com.tuteurldom.resource;
+
+import com.tuteurldom.dto.AppointmentDto;
+import com.tuteurldom.dto.RequestDto;
+import com.tuteurldom.dto.TeacherDto;
+import com.tuteurldom.dto.TeacherSummaryDto;
+import com.tuteurldom.entity.Teacher;
+import com.tuteurldom.repository.ReactiveAppointmentRepository;
+import com.tuteurldom.repository.ReactiveRequestRepository;
+import com.tuteurldom.repository.ReactiveTeacherRepository;
+import com.tuteurldom.service.TeacherProfileCache;
+import com.tuteurldom.service.TeacherSearchIndex;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Lectures chaudes sur l'event loop (client Vert.x MySQL), mêmes réponses que
+// TeacherResource, RequestResource et AppointmentResource. Atteintes via ReactiveReadRouting quand
+// tuteur.reads.reactive=true, ou directement sous /api/reactive.
+@Path("/api/reactive")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public class ReactiveReadResource {
+
+    @Inject
+    ReactiveTeacherRepository teacherRepository;
+
+    @Inject
+    ReactiveRequestRepository requestRepository;
+
+    @Inject
+    ReactiveAppointmentRepository appointmentRepository;
+
+    @Inject
+    TeacherSearchIndex searchIndex;
+
+    @Inject
+    TeacherProfileCache profileCache;
+
+    @GET
+    @Path("/teachers/search")
+    public Uni<Response> searchTeachers(@QueryParam("q") String query,
+                                        @QueryParam("minHourlyRate") BigDecimal minRate,
+                                        @QueryParam("maxHourlyRate") BigDecimal maxRate,
+                                        @QueryParam("location") String location,
+                                        @QueryParam("limit") Integer limit) {
+        if (query == null || query.isBlank()) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Paramètre q obligatoire")
+                    .build());
+        }
+
+        Teacher.TeachingLocation teachingLocation = null;
+        if (location != null) {
+            try {
+                teachingLocation = Teacher.TeachingLocation.valueOf(location.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Location invalide, ignorer le filtre
+            }
+        }
+
+        int size = limit == null ? TeacherResource.DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(limit, TeacherResource.MAX_PAGE_SIZE));
+        // Index en mémoire : pas d'entrée-sortie, on reste sur l'event loop
+        List<Long> ids = searchIndex.search(query,
+                new TeacherSearchIndex.Filters(minRate, maxRate, teachingLocation), size);
+
+        return teacherRepository.findSummariesByIds(ids)
+                .map(teachers -> Response.ok(teachers.stream()
+                        .map(teacher -> new TeacherSummaryDto(teacher, teacher.ratingCount))
+                        .collect(Collectors.toList())).build());
+    }
+
+    @GET
+    @Path("/teachers/{id}")
+    public Uni<Response> getTeacherById(@PathParam("id") Long id) {
+        // Même cache que la lecture bloquante (JSON déjà sérialisé)
+        byte[] cached = profileCache.getIfPresent(id);
+        Uni<byte[]> teacherJson = cached != null ? Uni.createFrom().item(cached)
+                : teacherRepository.findProfile(id)
+                        .map(teacher -> teacher == null ? null : profileCache.put(id, new TeacherDto(teacher)));
+
+        return teacherJson.map(json -> json == null
+                ? Response.status(Response.Status.NOT_FOUND).entity("Enseignant non trouvé").build()
+                : Response.ok(json, MediaType.APPLICATION_JSON).build());
+    }
+
+    @GET
+    @Path("/requests/parent/{parentId}")
+    public Multi<RequestDto> getRequestsByParent(@PathParam("parentId") Long parentId) {
+        return requestRepository.findByParentId(parentId).map(RequestDto::new);
+    }
+
+    @GET
+    @Path("/requests/teacher/{teacherId}")
+    public Multi<RequestDto> getRequestsByTeacher(@PathParam("teacherId") Long teacherId) {
+        return requestRepository.findByTeacherId(teacherId).map(RequestDto::new);
+    }
+
+    @GET
+    @Path("/appointments/parent/{parentId}")
+    public Multi<AppointmentDto> getAppointmentsByParent(@PathParam("parentId") Long parentId) {
+        return appointmentRepository.findByParentId(parentId).map(AppointmentDto::new);
+    }
+
+    @GET
+    @Path("/appointments/teacher/{teacherId}")
+    public Multi<AppointmentDto> getAppointmentsByTeacher(@PathParam("teacherId") Long teacherId) {
+        return appointmentRepository.findByTeacherId(teacherId).map(AppointmentDto::new);
+    }
+}
@@ -0,0 +1,33 @@
+package com.tuteurldom.resource;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.UriBuilder;
+import java.util.regex.Pattern;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+
+// tuteur.reads.reactive=true : les lectures chaudes sont servies par ReactiveReadResource sans
+// changer les URLs des clients (réécriture avant la sélection de l'endpoint). À false, le même
+// binaire sert tout par la pile bloquante, pour comparer les deux.
+public class ReactiveReadRouting {
+
+    private static final Pattern REACTIVE_READS = Pattern.compile(
+            "/api/(teachers/search|teachers/\\d+|(requests|appointments)/(parent|teacher)/\\d+)");
+
+    @ConfigProperty(name = "tuteur.reads.reactive", defaultValue = "false")
+    boolean reactive;
+
+    @ServerRequestFilter(preMatching = true, nonBlocking = true)
+    public void route(ContainerRequestContext requestContext) {
+        if (!reactive || !HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        String path = requestContext.getUriInfo().getPath();
+        if (REACTIVE_READS.matcher(path).matches()) {
+            requestContext.setRequestUri(UriBuilder.fromUri(requestContext.getUriInfo().getRequestUri())
+                    .replacePath("/api/reactive" + path.substring("/api".length()))
+                    .build());
+        }
+    }
+}
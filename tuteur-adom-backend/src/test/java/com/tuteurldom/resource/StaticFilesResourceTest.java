@@ -0,0 +1,42 @@
+package com.tuteurldom.resource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class StaticFilesResourceTest {
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    // 206 : bornes incluses, fin ramenée à la taille du fichier
+    @Test
+    void parsesSatisfiableRanges() {
+        assertArrayEquals(new long[] {0, 99}, StaticFilesResource.parseRange("bytes=0-99", 1000));
+        assertArrayEquals(new long[] {500, 999}, StaticFilesResource.parseRange("bytes=500-", 1000));
+        assertArrayEquals(new long[] {900, 999}, StaticFilesResource.parseRange("bytes=-100", 1000));
+        assertArrayEquals(new long[] {0, 999}, StaticFilesResource.parseRange("bytes=-5000", 1000));
+        assertArrayEquals(new long[] {990, 999}, StaticFilesResource.parseRange("bytes=990-2000", 1000));
+        assertArrayEquals(new long[] {0, 0}, StaticFilesResource.parseRange("bytes=0-0", 1));
+    }
+
+    // 416 : plage bien formée mais hors du fichier
+    @Test
+    void rejectsUnsatisfiableRanges() {
+        assertArrayEquals(UNSATISFIABLE, StaticFilesResource.parseRange("bytes=1000-", 1000));
+        assertArrayEquals(UNSATISFIABLE, StaticFilesResource.parseRange("bytes=1000-1200", 1000));
+        assertArrayEquals(UNSATISFIABLE, StaticFilesResource.parseRange("bytes=-0", 1000));
+        assertArrayEquals(UNSATISFIABLE, StaticFilesResource.parseRange("bytes=0-", 0));
+        assertArrayEquals(UNSATISFIABLE, StaticFilesResource.parseRange("bytes=-10", 0));
+    }
+
+    // En-tête ignoré : le fichier entier est servi (200)
+    @Test
+    void ignoresInvalidRanges() {
+        assertNull(StaticFilesResource.parseRange("items=0-99", 1000));
+        assertNull(StaticFilesResource.parseRange("bytes=0-9,20-29", 1000));
+        assertNull(StaticFilesResource.parseRange("bytes=100", 1000));
+        assertNull(StaticFilesResource.parseRange("bytes=a-b", 1000));
+        assertNull(StaticFilesResource.parseRange("bytes=200-100", 1000));
+    }
+}
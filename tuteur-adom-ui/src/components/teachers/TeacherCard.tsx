@@ -34,6 +34,9 @@ const TeacherCard: React.FC<TeacherCardProps> = ({ teacher, viewMode = 'grid' })
     }
   };
 
+  // Les résumés (listes, recherche) portent le nombre d'avis, pas les avis
+  const reviewCount = teacher.reviewCount ?? teacher.reviews?.length ?? 0;
+
   const renderGridMode = () => (
     <div className="bg-white dark:bg-gray-800 rounded-3xl shadow-xs hover:shadow-xs transition-all duration-300 transform hover:-translate-y-1 overflow-hidden border border-gray-100 dark:border-gray-700">
       <div className="p-5">
@@ -41,7 +44,7 @@ const TeacherCard: React.FC<TeacherCardProps> = ({ teacher, viewMode = 'grid' })
         <div className="flex items-start gap-4 mb-4">
           <div className="relative">
             <img
-              src={teacher.profilePicture || getDefaultAvatar(teacher.firstName, teacher.lastName)}
+              src={teacher.profilePictureThumbnail || teacher.profilePicture || getDefaultAvatar(teacher.firstName, teacher.lastName)}
               alt={`${teacher.firstName} ${teacher.lastName}`}
               className="w-16 h-16 rounded-full object-cover border-4 border-white dark:border-gray-800 shadow-md"
               onError={(e) => {
@@ -84,9 +87,9 @@ const TeacherCard: React.FC<TeacherCardProps> = ({ teacher, viewMode = 'grid' })
               <span className="text-sm text-gray-600 dark:text-gray-400">
                 {teacher.rating ? `(${teacher.rating.toFixed(1)})` : 'Nouveau'}
               </span>
-              {teacher.reviews && teacher.reviews.length > 0 && (
+              {reviewCount > 0 && (
                 <span className="text-sm text-gray-500 dark:text-gray-400">
-                  • {teacher.reviews.length} avis
+                  • {reviewCount} avis
                 </span>
               )}
             </div>
@@ -158,7 +161,7 @@ const TeacherCard: React.FC<TeacherCardProps> = ({ teacher, viewMode = 'grid' })
           {/* Avatar */}
           <div className="relative flex-shrink-0">
             <img
-              src={teacher.profilePicture || getDefaultAvatar(teacher.firstName, teacher.lastName)}
+              src={teacher.profilePictureThumbnail || teacher.profilePicture || getDefaultAvatar(teacher.firstName, teacher.lastName)}
               alt={`${teacher.firstName} ${teacher.lastName}`}
               className="w-20 h-20 rounded-xl object-cover border-4 border-white dark:border-gray-800 shadow-lg"
               onError={(e) => {
@@ -208,9 +211,9 @@ const TeacherCard: React.FC<TeacherCardProps> = ({ teacher, viewMode = 'grid' })
                       {teacher.rating?.toFixed(1) || 'Nouveau'}
                     </span>
                   </div>
-                  {teacher.reviews && teacher.reviews.length > 0 && (
+                  {reviewCount > 0 && (
                     <span className="text-gray-600 dark:text-gray-400">
-                      {teacher.reviews.length} avis
+                      {reviewCount} avis
                     </span>
                   )}
                 </div>
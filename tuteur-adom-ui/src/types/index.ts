@@ -5,6 +5,7 @@ export interface User {
   lastName: string;
   role: 'parent' | 'teacher' | 'admin';
   profilePicture?: string;
+  profilePictureThumbnail?: string; // Vignette 128 px servie par le backend
 }
 
 export interface Teacher extends User {
@@ -24,6 +25,7 @@ export interface Teacher extends User {
   status?: 'PENDING' | 'ACTIVE' | 'SUSPENDED';
   rating: number;
   reviews: Review[];
+  reviewCount?: number; // Nombre d'avis (listes et recherche : les avis eux-mêmes ne sont pas renvoyés)
   profilePicture?: string;
 }
 